@@ -0,0 +1,187 @@
+package com.springboard.projectboard.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시태그 AND 검색 벤치마크. 게시글-해시태그 연결 100만 건(H2 메모리 DB)에서 해시태그 두 개가 모두 달린 글의 첫 페이지를 찾는다.
+ * <ul>
+ *     <li>inJoin: 기존 방식. {@code IN} + 조인이라 OR 의미이고, 두 해시태그가 모두 달린 글은 중복으로 나온다.</li>
+ *     <li>groupByHaving: {@code GROUP BY 게시글 HAVING COUNT(DISTINCT 해시태그) = n} 서브쿼리. 게시글 검색에서 쓰는 방식.</li>
+ *     <li>existsPerHashtag: 해시태그마다 {@code EXISTS} 를 하나씩 붙이는 방식.</li>
+ * </ul>
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=HashtagAndSearchBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HashtagAndSearchBenchmark {
+
+    private static final int ARTICLE_COUNT = 200_000;
+    private static final int HASHTAGS_PER_ARTICLE = 5;
+    private static final int HASHTAG_COUNT = 1_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String IN_JOIN = """
+            SELECT a.id FROM article a
+            JOIN article_hashtag ah ON ah.article_id = a.id
+            JOIN hashtag h ON h.id = ah.hashtag_id
+            WHERE h.hashtag_name IN (?, ?)
+            ORDER BY a.id DESC LIMIT ?""";
+    private static final String GROUP_BY_HAVING = """
+            SELECT a.id FROM article a
+            WHERE a.id IN (
+                SELECT ah.article_id FROM article_hashtag ah
+                JOIN hashtag h ON h.id = ah.hashtag_id
+                WHERE h.hashtag_name IN (?, ?)
+                GROUP BY ah.article_id
+                HAVING COUNT(DISTINCT h.id) = 2
+            )
+            ORDER BY a.id DESC LIMIT ?""";
+    private static final String EXISTS_PER_HASHTAG = """
+            SELECT a.id FROM article a
+            WHERE EXISTS (SELECT 1 FROM article_hashtag ah JOIN hashtag h ON h.id = ah.hashtag_id WHERE ah.article_id = a.id AND h.hashtag_name = ?)
+              AND EXISTS (SELECT 1 FROM article_hashtag ah JOIN hashtag h ON h.id = ah.hashtag_id WHERE ah.article_id = a.id AND h.hashtag_name = ?)
+            ORDER BY a.id DESC LIMIT ?""";
+
+    /**
+     * 두 해시태그의 인기 순위. 0 이 가장 많이 쓰인 해시태그다.
+     */
+    @Param({"0,1", "0,500", "300,700"})
+    private String hashtagRanks;
+
+    private Connection connection;
+    private String firstHashtag;
+    private String secondHashtag;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:hashtag_and_search;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("CREATE TABLE article (id BIGINT PRIMARY KEY)");
+            statement.execute("CREATE TABLE hashtag (id BIGINT PRIMARY KEY, hashtag_name VARCHAR(255) UNIQUE)");
+            statement.execute("CREATE TABLE article_hashtag (article_id BIGINT, hashtag_id BIGINT, PRIMARY KEY (article_id, hashtag_id))");
+            statement.execute("CREATE INDEX idx_article_hashtag_hashtag ON article_hashtag (hashtag_id, article_id)");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement hashtag = connection.prepareStatement("INSERT INTO hashtag VALUES (?, ?)")) {
+            for (int id = 0; id < HASHTAG_COUNT; id++) {
+                hashtag.setLong(1, id);
+                hashtag.setString(2, "tag" + id);
+                hashtag.addBatch();
+            }
+            hashtag.executeBatch();
+        }
+
+        // 해시태그 사용 빈도는 순위에 반비례(지프 분포)하게 준다.
+        double[] cumulative = new double[HASHTAG_COUNT];
+        double sum = 0;
+        for (int rank = 0; rank < HASHTAG_COUNT; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+        Random random = new Random(42);
+        try (PreparedStatement article = connection.prepareStatement("INSERT INTO article VALUES (?)");
+             PreparedStatement articleHashtag = connection.prepareStatement("INSERT INTO article_hashtag VALUES (?, ?)")) {
+            for (long articleId = 1; articleId <= ARTICLE_COUNT; articleId++) {
+                article.setLong(1, articleId);
+                article.addBatch();
+
+                Set<Integer> hashtagIds = new HashSet<>();
+                while (hashtagIds.size() < HASHTAGS_PER_ARTICLE) {
+                    hashtagIds.add(zipfRank(cumulative, random.nextDouble() * sum));
+                }
+                for (int hashtagId : hashtagIds) {
+                    articleHashtag.setLong(1, articleId);
+                    articleHashtag.setLong(2, hashtagId);
+                    articleHashtag.addBatch();
+                }
+
+                if (articleId % 10_000 == 0) {
+                    article.executeBatch();
+                    articleHashtag.executeBatch();
+                }
+            }
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        String[] ranks = hashtagRanks.split(",");
+        firstHashtag = "tag" + ranks[0];
+        secondHashtag = "tag" + ranks[1];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> inJoin() throws SQLException {
+        return fetchPage(IN_JOIN);
+    }
+
+    @Benchmark
+    public List<Long> groupByHaving() throws SQLException {
+        return fetchPage(GROUP_BY_HAVING);
+    }
+
+    @Benchmark
+    public List<Long> existsPerHashtag() throws SQLException {
+        return fetchPage(EXISTS_PER_HASHTAG);
+    }
+
+    private List<Long> fetchPage(String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, firstHashtag);
+            statement.setString(2, secondHashtag);
+            statement.setInt(3, PAGE_SIZE);
+
+            List<Long> articleIds = new ArrayList<>(PAGE_SIZE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    articleIds.add(resultSet.getLong(1));
+                }
+            }
+            return articleIds;
+        }
+    }
+
+    private static int zipfRank(double[] cumulative, double target) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,77 @@
+package com.springboard.projectboard.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 해시태그 추출 벤치마크. 기존 구현(호출마다 정규식 컴파일), 미리 컴파일한 정규식, 스캐너를 비교한다.
+ * 할당량까지 보려면 {@code -prof gc} 를 함께 준다.
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=HashtagExtractorBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HashtagExtractorBenchmark {
+
+    private static final List<String> SENTENCES = List.of(
+            "스프링부트로 게시판을 만들고 있습니다. ",
+            "JPA 에서 N+1 문제가 생겨서 fetch join 을 적용해 봤어요. ",
+            "#spring #java #게시판 ",
+            "오늘 점심은 김치찌개! #맛집 #점심 ",
+            "C# 이랑 F# 도 해시태그로 잡히는지 궁금하네요. ",
+            "배포는 GitHub Actions 로 합니다. #CI_CD #aws "
+    );
+
+    @Param({"1000", "10000"})
+    private int contentLength;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(contentLength + 100);
+        while (builder.length() < contentLength) {
+            builder.append(SENTENCES.get(random.nextInt(SENTENCES.size())));
+        }
+        content = builder.substring(0, contentLength);
+    }
+
+    @Benchmark
+    public Set<String> legacy() {
+        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
+        Matcher matcher = pattern.matcher(content.strip());
+        Set<String> result = new HashSet<>();
+
+        while (matcher.find()) {
+            result.add(matcher.group().replace("#", ""));
+        }
+
+        return Set.copyOf(result);
+    }
+
+    @Benchmark
+    public Set<String> precompiledPattern() {
+        return HashtagExtractor.extractByPattern(content);
+    }
+
+    @Benchmark
+    public Set<String> scanner() {
+        return HashtagExtractor.extract(content);
+    }
+}
@@ -0,0 +1,67 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.dto.HashtagUsageDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시태그 자동완성 벤치마크. 10만 개 해시태그에서 접두어 길이별 조회 지연을 본다.
+ * SampleTime 결과의 p0.99 가 자동완성 한 번의 지연 상한이다.
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=HashtagSuggestIndexBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HashtagSuggestIndexBenchmark {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz가나다라마바사";
+
+    @Param({"100000"})
+    private int hashtagCount;
+
+    @Param({"", "s", "sp", "spr", "가나"})
+    private String prefix;
+
+    private HashtagSuggestIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Map<String, HashtagUsageDto> usages = new HashMap<>();
+        long id = 1;
+        while (usages.size() < hashtagCount) {
+            String name = randomName(random);
+            // 사용 수는 소수의 인기 해시태그에 몰리도록 거듭제곱 분포로 준다.
+            long articleCount = (long) Math.pow(10_000, random.nextDouble() * random.nextDouble());
+            usages.putIfAbsent(name, HashtagUsageDto.of(id++, name, articleCount));
+        }
+        index = HashtagSuggestIndex.of(usages.values());
+    }
+
+    @Benchmark
+    public List<HashtagUsageDto> suggest() {
+        return index.suggest(prefix, 10);
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = 2 + random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package com.springboard.projectboard.service.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 검색 토크나이저/검색어 해석 벤치마크.
+ * 본문은 실제 게시판 글처럼 한글 문장, 영문 기술 용어, 숫자, 해시태그, 전각 문자를 섞어서 만든다.
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=ArticleSearchTokenizerBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleSearchTokenizerBenchmark {
+
+    private static final List<String> SENTENCES = List.of(
+            "안녕하세요, 스프링부트로 게시판을 만들고 있는 초보 개발자입니다. ",
+            "JPA 에서 N+1 문제가 생겨서 fetch join 을 적용해 봤는데 페이징이 이상하게 동작하네요. ",
+            "혹시 Querydsl 5.0 버전에서 count 쿼리를 따로 분리하는 방법 아시는 분 계신가요? ",
+            "오늘 점심은 회사 앞 김치찌개 집에서 먹었습니다 ㅋㅋ 다들 맛점하세요! ",
+            "#spring #java #게시판 태그 달아 둡니다. ",
+            "ＭｙＳＱＬ　８．０ 에서 ngram 파서로 전문 검색 인덱스를 만들면 한글 검색이 된다고 합니다. ",
+            "배포는 GitHub Actions 로 EC2 에 올리고, 이미지는 S3 에 저장하고 있어요. "
+    );
+
+    @Param({"1000", "10000"})
+    private int contentLength;
+
+    private String content;
+    private String query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(contentLength + 100);
+        while (builder.length() < contentLength) {
+            builder.append(SENTENCES.get(random.nextInt(SENTENCES.size())));
+        }
+        content = builder.substring(0, contentLength);
+        query = "스프링 OR 스프링부트 \"fetch join\" 페이징 -광고 -\"구인 문의\"";
+    }
+
+    @Benchmark
+    public List<String> tokenizeToList() {
+        return ArticleSearchTokenizer.tokenize(content);
+    }
+
+    @Benchmark
+    public void tokenizeToConsumer(Blackhole blackhole) {
+        ArticleSearchTokenizer.tokenize(content, blackhole::consume);
+    }
+
+    @Benchmark
+    public String normalize() {
+        return ArticleSearchTokenizer.normalize(content);
+    }
+
+    @Benchmark
+    public ArticleSearchQuery parseQuery() {
+        return ArticleSearchQueryParser.parse(query);
+    }
+}
@@ -0,0 +1,39 @@
+package com.springboard.projectboard.config;
+
+import com.springboard.projectboard.domain.constant.ArticleCountMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 게시글 목록의 전체 개수(count) 조회 전략 설정.
+ * application.yml 에 값이 없으면 상한 1000, 30초 캐시를 기본으로 사용한다.
+ *
+ * @param mode            개수 조회 방식
+ * @param cacheTtl        {@link ArticleCountMode#CACHED} 에서 개수를 캐시해 둘 시간
+ * @param cap             {@link ArticleCountMode#CACHED} 에서 세어 볼 최대 개수. 0 이하면 상한 없이 센다.
+ * @param maxCacheEntries 캐시해 둘 (검색 유형, 검색어) 조합의 최대 개수
+ */
+@ConfigurationProperties("board.article.count")
+public record ArticleCountProperties(
+        ArticleCountMode mode,
+        Duration cacheTtl,
+        Long cap,
+        Integer maxCacheEntries
+) {
+
+    public ArticleCountProperties {
+        if (mode == null) { mode = ArticleCountMode.CACHED; }
+        if (cacheTtl == null) { cacheTtl = Duration.ofSeconds(30); }
+        if (cap == null) { cap = 1000L; }
+        if (maxCacheEntries == null) { maxCacheEntries = 1000; }
+    }
+
+    public static ArticleCountProperties of(ArticleCountMode mode, Duration cacheTtl, Long cap, Integer maxCacheEntries) {
+        return new ArticleCountProperties(mode, cacheTtl, cap, maxCacheEntries);
+    }
+
+    public boolean isCapped() {
+        return cap > 0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.springboard.projectboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 게시글 상세 화면 데이터 캐시 설정.
+ * application.yml 에 값이 없으면 게시글 1000개까지 5분 동안 캐시한다.
+ *
+ * @param ttl        캐시한 상세 화면 데이터를 다시 조립하지 않고 쓰는 시간
+ * @param maxEntries 캐시해 둘 게시글의 최대 개수
+ */
+@ConfigurationProperties("board.article.detail-cache")
+public record ArticleDetailCacheProperties(
+        Duration ttl,
+        Integer maxEntries
+) {
+
+    public ArticleDetailCacheProperties {
+        if (ttl == null) { ttl = Duration.ofMinutes(5); }
+        if (maxEntries == null) { maxEntries = 1000; }
+    }
+
+    public static ArticleDetailCacheProperties of(Duration ttl, Integer maxEntries) {
+        return new ArticleDetailCacheProperties(ttl, maxEntries);
+    }
+}
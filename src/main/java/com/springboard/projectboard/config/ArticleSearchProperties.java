@@ -0,0 +1,21 @@
+package com.springboard.projectboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글 제목/본문 검색 엔진 설정.
+ *
+ * @param engine          {@code like}(기본, 검색 엔진 없이 {@code LIKE} 조건), {@code mysql}(FULLTEXT ngram), {@code lucene}(내장 색인) 중 하나
+ * @param luceneIndexPath {@code lucene} 엔진이 색인을 저장할 로컬 디렉토리
+ */
+@ConfigurationProperties("board.search")
+public record ArticleSearchProperties(
+        String engine,
+        String luceneIndexPath
+) {
+
+    public ArticleSearchProperties {
+        if (engine == null || engine.isBlank()) { engine = "like"; }
+        if (luceneIndexPath == null || luceneIndexPath.isBlank()) { luceneIndexPath = "./search-index"; }
+    }
+}
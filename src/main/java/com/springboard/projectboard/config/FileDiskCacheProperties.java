@@ -0,0 +1,35 @@
+package com.springboard.projectboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * 자주 받는 첨부파일을 S3 대신 로컬 디스크에서 보내기 위한 캐시 설정.
+ * application.yml 에 값이 없으면 시스템 임시 디렉터리 아래 {@code board-file-cache} 에 최대 1GB 까지, 10MB 이하 파일만 캐시한다.
+ *
+ * @param enabled     디스크 캐시 사용 여부
+ * @param directory   캐시 파일을 두는 디렉터리. 서버가 시작할 때 캐시가 만든 파일만 지운다.
+ * @param maxSize     캐시 전체 크기의 상한. 넘으면 가장 오래 쓰이지 않은 파일부터 지운다.
+ * @param maxFileSize 이보다 큰 파일은 캐시하지 않고 S3 에서 바로 보낸다.
+ */
+@ConfigurationProperties("board.file.disk-cache")
+public record FileDiskCacheProperties(
+        Boolean enabled,
+        String directory,
+        DataSize maxSize,
+        DataSize maxFileSize
+) {
+
+    public FileDiskCacheProperties {
+        if (enabled == null) { enabled = true; }
+        if (directory == null) { directory = Path.of(System.getProperty("java.io.tmpdir"), "board-file-cache").toString(); }
+        if (maxSize == null) { maxSize = DataSize.ofGigabytes(1); }
+        if (maxFileSize == null) { maxFileSize = DataSize.ofMegabytes(10); }
+    }
+
+    public static FileDiskCacheProperties of(Boolean enabled, String directory, DataSize maxSize, DataSize maxFileSize) {
+        return new FileDiskCacheProperties(enabled, directory, maxSize, maxFileSize);
+    }
+}
@@ -0,0 +1,49 @@
+package com.springboard.projectboard.config;
+
+import com.springboard.projectboard.domain.constant.FileDownloadMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 첨부파일 다운로드 방식 설정.
+ * application.yml 에 값이 없으면 앱 서버가 64KB 버퍼로 중계하고, 리다이렉트 방식일 때 서명 URL 은 10분 동안 유효하며 만료 2분 전까지 다시 쓴다.
+ *
+ * @param mode                    다운로드 방식
+ * @param presignedUrlTtl         {@link FileDownloadMode#REDIRECT} 에서 서명 URL 의 유효 시간
+ * @param presignedUrlRenewBefore 만료까지 이 시간보다 적게 남은 서명 URL 은 다시 만든다. 받기 시작하기 전에 만료되지 않도록 하는 여유다.
+ *                                {@code presignedUrlTtl} 보다 짧아야 한다.
+ * @param maxCacheEntries         캐시해 둘 서명 URL 의 최대 개수
+ * @param bufferSize              {@link FileDownloadMode#PROXY} 에서 S3 스트림을 응답으로 옮길 때 쓰는 버퍼 크기
+ */
+@ConfigurationProperties("board.file.download")
+public record FileDownloadProperties(
+        FileDownloadMode mode,
+        Duration presignedUrlTtl,
+        Duration presignedUrlRenewBefore,
+        Integer maxCacheEntries,
+        DataSize bufferSize
+) {
+
+    public FileDownloadProperties {
+        if (mode == null) { mode = FileDownloadMode.PROXY; }
+        if (presignedUrlTtl == null) { presignedUrlTtl = Duration.ofMinutes(10); }
+        if (presignedUrlRenewBefore == null) { presignedUrlRenewBefore = Duration.ofMinutes(2); }
+        if (maxCacheEntries == null) { maxCacheEntries = 1000; }
+        if (bufferSize == null) { bufferSize = DataSize.ofKilobytes(64); }
+
+        // 여유가 유효 시간 이상이면 서명하자마자 갱신 대상이 되어, 요청마다 새로 서명하고 캐시에 쌓기만 한다.
+        if (presignedUrlRenewBefore.compareTo(presignedUrlTtl) >= 0) {
+            throw new IllegalArgumentException("presigned-url-renew-before 는 presigned-url-ttl 보다 짧아야 합니다. (ttl: " + presignedUrlTtl + ", renew-before: " + presignedUrlRenewBefore + ")");
+        }
+    }
+
+    public static FileDownloadProperties of(FileDownloadMode mode, Duration presignedUrlTtl, Duration presignedUrlRenewBefore, Integer maxCacheEntries) {
+        return new FileDownloadProperties(mode, presignedUrlTtl, presignedUrlRenewBefore, maxCacheEntries, null);
+    }
+
+    public static FileDownloadProperties of(FileDownloadMode mode, Duration presignedUrlTtl, Duration presignedUrlRenewBefore, Integer maxCacheEntries, DataSize bufferSize) {
+        return new FileDownloadProperties(mode, presignedUrlTtl, presignedUrlRenewBefore, maxCacheEntries, bufferSize);
+    }
+}
@@ -0,0 +1,23 @@
+package com.springboard.projectboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 해시태그 관리 설정.
+ * application.yml 에 값이 없으면 글 수정/삭제 요청 안에서 쓰이지 않는 해시태그를 바로 지운다.
+ *
+ * @param deferOrphanCleanup 쓰이지 않는 해시태그를 요청 안에서 지우지 않고 {@code HashtagOrphanSweeper} 가 주기적으로 지우게 할지 여부
+ */
+@ConfigurationProperties("board.hashtag")
+public record HashtagProperties(
+        Boolean deferOrphanCleanup
+) {
+
+    public HashtagProperties {
+        if (deferOrphanCleanup == null) { deferOrphanCleanup = false; }
+    }
+
+    public static HashtagProperties of(Boolean deferOrphanCleanup) {
+        return new HashtagProperties(deferOrphanCleanup);
+    }
+}
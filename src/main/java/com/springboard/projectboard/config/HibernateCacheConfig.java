@@ -0,0 +1,74 @@
+package com.springboard.projectboard.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.springboard.projectboard.domain.constant.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정. 로컬 JCache(Caffeine) 캐시 매니저를 만들어 Hibernate 에 넘긴다.
+ * <p>
+ * 영역은 모두 여기서 크기와 만료 시간을 정해 미리 만든다. 적중/실패 수는 Hibernate 통계를 통해
+ * Actuator 의 {@code hibernate.second.level.cache.requests}, {@code hibernate.query.cache.requests} 메트릭으로 나간다.
+ * <p>
+ * 무효화는 Hibernate 에 맡긴다. 엔티티/컬렉션 변경은 READ_WRITE 전략이 커밋 시점에 반영하고,
+ * 댓글처럼 반대편(mappedBy) 컬렉션은 {@code auto_evict_collection_cache} 로, 네이티브 쿼리는 동기화할 엔티티를 지정해서 비운다.
+ */
+@ConditionalOnProperty(prefix = "board.hibernate-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        // 전역 Caching 레지스트리를 쓰지 않고 공급자를 직접 만들어, 같은 JVM 의 다른 애플리케이션 컨텍스트(테스트 등)와 캐시를 공유하지 않는다.
+        CacheManager cacheManager = new CaffeineCachingProvider()
+                .getCacheManager(URI.create("board-hibernate-cache"), getClass().getClassLoader());
+
+        long maxEntries = properties.maxEntries();
+        createRegion(cacheManager, CacheRegions.ARTICLE, maxEntries, properties);
+        createRegion(cacheManager, CacheRegions.ARTICLE_HASHTAGS, maxEntries, properties);
+        createRegion(cacheManager, CacheRegions.ARTICLE_COMMENTS, maxEntries, properties);
+        createRegion(cacheManager, CacheRegions.ARTICLE_COMMENT, maxEntries * 5, properties);
+        createRegion(cacheManager, CacheRegions.USER_ACCOUNT, maxEntries, properties);
+        createRegion(cacheManager, CacheRegions.HASHTAG, maxEntries, properties);
+        createRegion(cacheManager, CacheRegions.QUERY_RESULTS, maxEntries, properties);
+        createEternalRegion(cacheManager, CacheRegions.UPDATE_TIMESTAMPS);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager, HibernateCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.statisticsEnabled());
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // 위에서 만들지 않은 영역이 생기면 크기 제한 없는 캐시가 만들어지므로 경고를 남긴다.
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String region, long maxEntries, HibernateCacheProperties properties) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(properties.timeToLive().toNanos()));
+        configuration.setStatisticsEnabled(properties.statisticsEnabled());
+        cacheManager.createCache(region, configuration);
+    }
+
+    private void createEternalRegion(CacheManager cacheManager, String region) {
+        cacheManager.createCache(region, new CaffeineConfiguration<>());
+    }
+}
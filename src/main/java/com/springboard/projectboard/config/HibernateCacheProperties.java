@@ -0,0 +1,34 @@
+package com.springboard.projectboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Hibernate 2차 캐시(엔티티, 컬렉션, 쿼리) 설정.
+ * application.yml 에 값이 없으면 캐시를 켜고, 영역마다 10분 / 10,000 건을 기본으로 사용한다.
+ *
+ * @param enabled           2차 캐시와 쿼리 캐시 사용 여부
+ * @param timeToLive        캐시 항목을 저장한 뒤 유지할 시간
+ * @param maxEntries        영역별 최대 항목 수 (댓글 영역은 이 값의 5배)
+ * @param statisticsEnabled Hibernate 통계 수집 여부. 켜야 Actuator 메트릭에 캐시 적중/실패가 잡힌다.
+ */
+@ConfigurationProperties("board.hibernate-cache")
+public record HibernateCacheProperties(
+        Boolean enabled,
+        Duration timeToLive,
+        Long maxEntries,
+        Boolean statisticsEnabled
+) {
+
+    public HibernateCacheProperties {
+        if (enabled == null) { enabled = true; }
+        if (timeToLive == null) { timeToLive = Duration.ofMinutes(10); }
+        if (maxEntries == null) { maxEntries = 10_000L; }
+        if (statisticsEnabled == null) { statisticsEnabled = true; }
+    }
+
+    public static HibernateCacheProperties of(Boolean enabled, Duration timeToLive, Long maxEntries, Boolean statisticsEnabled) {
+        return new HibernateCacheProperties(enabled, timeToLive, maxEntries, statisticsEnabled);
+    }
+}
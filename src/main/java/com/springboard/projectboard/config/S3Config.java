@@ -4,9 +4,14 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
 
 @Configuration
 public class S3Config {
@@ -28,4 +33,21 @@ public class S3Config {
                 .withCredentials(new AWSStaticCredentialsProvider(credentials))
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 멀티파트 업로드의 파트를 고정 크기 스레드 풀로 병렬 전송한다. 스레드 수가 S3 로 나가는 동시 연결의 상한이 된다.
+     * 풀은 {@link java.util.concurrent.Executor} 빈으로 노출하지 않는다. (노출하면 스프링 부트 기본 작업 실행기가 만들어지지 않는다)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3 amazonS3, S3UploadProperties properties) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(
+                        properties.transferThreads(),
+                        new CustomizableThreadFactory("s3-transfer-")
+                ))
+                .withMultipartUploadThreshold(properties.multipartThreshold().toBytes())
+                .withMinimumUploadPartSize(properties.partSize().toBytes())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.springboard.projectboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * S3 업로드 방식 설정.
+ * application.yml 에 값이 없으면 6MB 이상인 파일을 5MB 파트로 나눠 최대 8개 스레드로 올리고,
+ * 첨부파일은 임시 디렉터리에 받아 둔 뒤 2개의 작업 스레드가 최대 5번까지 올려 본다.
+ *
+ * @param multipartThreshold 이 크기 이상이면 멀티파트 업로드로 파트를 병렬 전송한다.
+ * @param partSize           멀티파트 업로드의 파트 크기. S3 는 마지막 파트를 빼고 5MB 이상이어야 한다.
+ * @param transferThreads    파트 전송에 쓰는 스레드 수. 서버 전체에서 동시에 S3 로 나가는 연결 수의 상한이 된다.
+ * @param spoolDirectory     S3 에 올리기 전까지 첨부파일을 받아 두는 로컬 디렉터리
+ * @param workerThreads      받아 둔 첨부파일을 S3 로 올리는 작업 스레드 수
+ * @param maxAttempts        첨부파일 하나를 올려 보는 최대 횟수. 모두 실패하면 {@code FAILED} 로 바꾼다.
+ * @param retryBackoff       첫 재시도까지 기다리는 시간. 재시도마다 두 배씩 늘어난다.
+ * @param staleAfter         이 시간이 지나도록 {@code PENDING} 인 첨부파일은 (서버 재시작 등으로) 놓친 것으로 보고 다시 올린다.
+ * @param recoveryInterval   놓친 {@code PENDING} 첨부파일을 찾아보는 간격
+ * @param recoveryIntervalMs {@code recoveryInterval} 의 예전 이름(밀리초). {@code recoveryInterval} 이 없을 때만 쓴다.
+ */
+@ConfigurationProperties("board.file.upload")
+public record S3UploadProperties(
+        DataSize multipartThreshold,
+        DataSize partSize,
+        Integer transferThreads,
+        String spoolDirectory,
+        Integer workerThreads,
+        Integer maxAttempts,
+        Duration retryBackoff,
+        Duration staleAfter,
+        Duration recoveryInterval,
+        @Deprecated Long recoveryIntervalMs
+) {
+
+    public S3UploadProperties {
+        if (multipartThreshold == null) { multipartThreshold = DataSize.ofMegabytes(6); }
+        if (partSize == null) { partSize = DataSize.ofMegabytes(5); }
+        if (transferThreads == null) { transferThreads = 8; }
+        if (spoolDirectory == null) { spoolDirectory = Path.of(System.getProperty("java.io.tmpdir"), "board-upload-spool").toString(); }
+        if (workerThreads == null) { workerThreads = 2; }
+        if (maxAttempts == null) { maxAttempts = 5; }
+        if (retryBackoff == null) { retryBackoff = Duration.ofSeconds(2); }
+        if (staleAfter == null) { staleAfter = Duration.ofMinutes(10); }
+        if (recoveryInterval == null) {
+            recoveryInterval = recoveryIntervalMs == null ? Duration.ofMinutes(5) : Duration.ofMillis(recoveryIntervalMs);
+        }
+    }
+
+    public static S3UploadProperties of(DataSize multipartThreshold, DataSize partSize, Integer transferThreads) {
+        return new S3UploadProperties(multipartThreshold, partSize, transferThreads, null, null, null, null, null, null, null);
+    }
+
+    public static S3UploadProperties of(DataSize multipartThreshold, DataSize partSize, Integer transferThreads, String spoolDirectory, Integer workerThreads, Integer maxAttempts, Duration retryBackoff, Duration staleAfter, Duration recoveryInterval) {
+        return new S3UploadProperties(multipartThreshold, partSize, transferThreads, spoolDirectory, workerThreads, maxAttempts, retryBackoff, staleAfter, recoveryInterval, null);
+    }
+
+    /**
+     * {@code attempt} 번째 시도가 실패했을 때 다음 시도까지 기다릴 시간
+     */
+    public Duration backoffAfter(int attempt) {
+        return retryBackoff.multipliedBy(1L << Math.min(attempt - 1, 10));
+    }
+}
@@ -40,7 +40,9 @@ public class SecurityConfig {
                                 "/",
                                 "/health",
                                 "/articles",
+                                "/articles/cursor",
                                 "/articles/search-hashtag",
+                                "/hashtags/suggest",
                                 "/files/download/**"
                         ).permitAll()
                         .mvcMatchers(HttpMethod.DELETE, "/files/**").authenticated()
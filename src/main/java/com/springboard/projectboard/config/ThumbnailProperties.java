@@ -0,0 +1,33 @@
+package com.springboard.projectboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 첨부 이미지 썸네일 설정.
+ * application.yml 에 값이 없으면 상세 화면의 200x150 칸을 고해상도 화면에서도 선명하게 채우도록 400x300 안에 맞춘 JPEG(품질 0.8)로 만든다.
+ *
+ * @param width           썸네일 최대 너비(px). 원본 비율은 유지한다.
+ * @param height          썸네일 최대 높이(px)
+ * @param quality         JPEG 압축 품질 (0.0 ~ 1.0)
+ * @param maxSourcePixels 원본의 가로x세로가 이보다 크면 썸네일을 만들지 않는다. 건너뛰며 읽어도 원본 전체를 풀어야 하므로,
+ *                        작은 파일로 오래 CPU 를 쓰게 하는 이미지를 막는다. 기본값은 2400만 화소(6000x4000) 카메라 사진까지 허용한다.
+ */
+@ConfigurationProperties("board.file.thumbnail")
+public record ThumbnailProperties(
+        Integer width,
+        Integer height,
+        Float quality,
+        Long maxSourcePixels
+) {
+
+    public ThumbnailProperties {
+        if (width == null) { width = 400; }
+        if (height == null) { height = 300; }
+        if (quality == null) { quality = 0.8f; }
+        if (maxSourcePixels == null) { maxSourcePixels = 24_000_000L; }
+    }
+
+    public static ThumbnailProperties of(Integer width, Integer height, Float quality, Long maxSourcePixels) {
+        return new ThumbnailProperties(width, height, quality, maxSourcePixels);
+    }
+}
@@ -3,10 +3,15 @@ package com.springboard.projectboard.controller;
 import com.springboard.projectboard.domain.Article;
 import com.springboard.projectboard.domain.constant.FormStatus;
 import com.springboard.projectboard.domain.constant.SearchType;
+import com.springboard.projectboard.dto.ArticleCursorPage;
+import com.springboard.projectboard.dto.ArticleSummaryDto;
+import com.springboard.projectboard.dto.CountCappedPage;
 import com.springboard.projectboard.dto.request.ArticleRequest;
+import com.springboard.projectboard.dto.response.ArticleDetailResponse;
 import com.springboard.projectboard.dto.response.ArticleResponse;
 import com.springboard.projectboard.dto.response.ArticleWithCommentsResponse;
 import com.springboard.projectboard.dto.security.BoardPrincipal;
+import com.springboard.projectboard.service.ArticleDetailService;
 import com.springboard.projectboard.service.ArticleService;
 import com.springboard.projectboard.service.ArticleFileService;
 import com.springboard.projectboard.service.PaginationService;
@@ -19,17 +24,22 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @RequestMapping("/articles")
 @Controller
 public class ArticleController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ArticleService articleService;
     private final ArticleFileService articleFileService;
+    private final ArticleDetailService articleDetailService;
     private final PaginationService paginationService;
 
     @GetMapping
@@ -37,25 +47,18 @@ public class ArticleController {
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            ServletWebRequest request,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable)
-                .map(dto -> {
-                    boolean hasFiles = !articleFileService.getArticleFiles(dto.id()).isEmpty();
-                    return ArticleResponse.of(
-                            dto.id(),
-                            dto.title(),
-                            dto.content(),
-                            dto.hashtagDtos().stream().map(hashtagDto -> hashtagDto.hashtagName()).collect(java.util.stream.Collectors.toSet()),
-                            dto.createdAt(),
-                            dto.userAccountDto().email(),
-                            dto.userAccountDto().nickname() != null && !dto.userAccountDto().nickname().isBlank() ? dto.userAccountDto().nickname() : dto.userAccountDto().userId(),
-                            hasFiles
-                    );
-                });
+        Page<ArticleResponse> articles = toArticleResponses(articleService.searchArticleSummaries(searchType, searchValue, pageable));
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+        boolean totalCapped = isTotalCapped(articles);
+        if (HttpValidators.checkNotModified(request, articles.getContent(), articles.getTotalPages(), barNumbers, totalCapped)) {
+            return null;
+        }
 
         map.addAttribute("articles", articles);
+        map.addAttribute("totalCapped", totalCapped);
         map.addAttribute("paginationBarNumbers", barNumbers);
         map.addAttribute("searchTypes", SearchType.values());
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
@@ -63,15 +66,56 @@ public class ArticleController {
         return "articles/index";
     }
 
+    @GetMapping("/cursor")
+    public String articlesByCursor(
+            @RequestParam(required = false) SearchType searchType,
+            @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            ServletWebRequest request,
+            ModelMap map
+    ) {
+        ArticleCursorPage cursorPage = articleService.searchArticleSummariesByCursor(
+                searchType,
+                searchValue,
+                cursor,
+                Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE)
+        );
+        Set<Long> articleIdsWithFiles = articleFileService.getArticleIdsWithFiles(
+                cursorPage.content().stream().map(ArticleSummaryDto::id).toList()
+        );
+        List<ArticleResponse> articles = cursorPage.content().stream()
+                .map(dto -> ArticleResponse.from(dto, articleIdsWithFiles.contains(dto.id())))
+                .toList();
+        if (HttpValidators.checkNotModified(request, articles, cursorPage.nextCursor(), cursorPage.previousCursor())) {
+            return null;
+        }
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("nextCursor", cursorPage.nextCursor());
+        map.addAttribute("previousCursor", cursorPage.previousCursor());
+        map.addAttribute("searchTypes", SearchType.values());
+        map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+
+        return "articles/cursor";
+    }
+
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String article(@PathVariable Long articleId, ServletWebRequest request, ModelMap map) {
+        ArticleDetailResponse detail = articleDetailService.getArticleDetail(articleId);
+
+        // 브라우저가 캐시해 두되 매번 ETag/Last-Modified 로 확인하게 해서, 바뀌지 않았으면 304 로 응답한다.
+        // 보는 사람마다 수정/삭제 버튼 노출이 다르므로, ETag 에는 사용자 ID 가 섞인다.
+        if (HttpValidators.checkNotModifiedSince(request, detail.lastModifiedAt(), detail.version())) {
+            return null;
+        }
 
+        ArticleWithCommentsResponse article = detail.article();
         map.addAttribute("article", article);
         map.addAttribute("articleComments", article.articleCommentResponse());
-        map.addAttribute("articleFiles", articleFileService.getArticleFiles(articleId));
-        map.addAttribute("previousArticleId", articleService.getPreviousArticleId(articleId));
-        map.addAttribute("nextArticleId", articleService.getNextArticleId(articleId));
+        map.addAttribute("articleFiles", detail.articleFiles());
+        map.addAttribute("previousArticleId", detail.previousArticleId());
+        map.addAttribute("nextArticleId", detail.nextArticleId());
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
 
         return "articles/detail";
@@ -81,26 +125,19 @@ public class ArticleController {
     public String searchArticleHashtag(
             @RequestParam(required = false) String searchValue,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            ServletWebRequest request,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable)
-                .map(dto -> {
-                    boolean hasFiles = !articleFileService.getArticleFiles(dto.id()).isEmpty();
-                    return ArticleResponse.of(
-                            dto.id(),
-                            dto.title(),
-                            dto.content(),
-                            dto.hashtagDtos().stream().map(hashtagDto -> hashtagDto.hashtagName()).collect(java.util.stream.Collectors.toSet()),
-                            dto.createdAt(),
-                            dto.userAccountDto().email(),
-                            dto.userAccountDto().nickname() != null && !dto.userAccountDto().nickname().isBlank() ? dto.userAccountDto().nickname() : dto.userAccountDto().userId(),
-                            hasFiles
-                    );
-                });
+        Page<ArticleResponse> articles = toArticleResponses(articleService.searchArticleSummariesViaHashtag(searchValue, pageable));
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
         List<String> hashtags = articleService.getHashtags();
+        boolean totalCapped = isTotalCapped(articles);
+        if (HttpValidators.checkNotModified(request, articles.getContent(), articles.getTotalPages(), barNumbers, hashtags, totalCapped)) {
+            return null;
+        }
 
         map.addAttribute("articles", articles);
+        map.addAttribute("totalCapped", totalCapped);
         map.addAttribute("hashtags", hashtags);
         map.addAttribute("paginationBarNumbers", barNumbers);
         map.addAttribute("searchType", SearchType.HASHTAG);
@@ -167,4 +204,19 @@ public class ArticleController {
 
         return "redirect:/articles";
     }
+
+    /**
+     * 전체 개수를 상한까지만 셌으면 {@code true}. 이때 화면은 전체 개수를 "상한+" 로 보여 주고, 다음 페이지는 {@link Page#hasNext()} 로 판단한다.
+     */
+    private boolean isTotalCapped(Page<?> articles) {
+        return articles instanceof CountCappedPage<?> cappedPage && cappedPage.isTotalCapped();
+    }
+
+    private Page<ArticleResponse> toArticleResponses(Page<ArticleSummaryDto> articleSummaries) {
+        Set<Long> articleIdsWithFiles = articleFileService.getArticleIdsWithFiles(
+                articleSummaries.map(ArticleSummaryDto::id).getContent()
+        );
+
+        return articleSummaries.map(dto -> ArticleResponse.from(dto, articleIdsWithFiles.contains(dto.id())));
+    }
 }
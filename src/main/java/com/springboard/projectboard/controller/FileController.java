@@ -1,20 +1,32 @@
 package com.springboard.projectboard.controller;
 
+import com.springboard.projectboard.config.FileDownloadProperties;
 import com.springboard.projectboard.domain.ArticleFile;
 import com.springboard.projectboard.service.ArticleFileService;
+import com.springboard.projectboard.service.FileDiskCache;
+import com.springboard.projectboard.service.PresignedDownloadUrlService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import com.springboard.projectboard.dto.security.BoardPrincipal;
 
 
 import java.io.InputStream;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @RestController
@@ -22,19 +34,68 @@ import java.nio.charset.StandardCharsets;
 public class FileController {
 
     private final ArticleFileService articleFileService;
+    private final PresignedDownloadUrlService presignedDownloadUrlService;
+    private final FileDiskCache fileDiskCache;
+    private final FileDownloadProperties downloadProperties;
 
     @GetMapping("/download/{fileId}")
-    public ResponseEntity<InputStreamResource> downloadFile(@PathVariable Long fileId) {
+    public ResponseEntity<StreamingResponseBody> downloadFile(@PathVariable Long fileId, ServletWebRequest request) {
         ArticleFile articleFile = articleFileService.getArticleFile(fileId);
-        InputStream inputStream = articleFileService.downloadFile(articleFile.getS3Key());
-        
-        String encodedFilename = URLEncoder.encode(articleFile.getOriginalFileName(), StandardCharsets.UTF_8)
-                .replaceAll("\\+", "%20");
+        if (!articleFile.isReady()) {
+            return ResponseEntity.notFound().build(); // 아직 S3 에 올라가지 않았거나 업로드에 실패한 파일
+        }
+
+        String contentDisposition = attachmentDisposition(articleFile);
+        Optional<String> presignedUrl = presignedDownloadUrlService.getDownloadUrl(articleFile, contentDisposition);
+        if (presignedUrl.isPresent()) {
+            // 서명 URL 은 곧 만료되므로 브라우저가 리다이렉트를 저장해 두지 않도록 한다.
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .header(HttpHeaders.LOCATION, presignedUrl.get())
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+
+        // 같은 S3 키에 다른 내용을 올리지 않으므로, 메타데이터만으로 판단해서 S3 를 부르기 전에 304 로 응답한다.
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, HttpValidators.PRIVATE_NO_CACHE);
+        String eTag = HttpValidators.strongETag(articleFile.getId(), articleFile.getS3Key(), articleFile.getFileSize());
+        if (request.checkNotModified(eTag, HttpValidators.toEpochMillis(articleFile.getModifiedAt()))) {
+            return null;
+        }
+
+        long fileSize = articleFile.getFileSize();
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFilename)
+        HttpRange range = resolveRange(request, eTag);
+        String s3Key = articleFile.getS3Key();
+        if (range == null) {
+            // 캐시에 없으면 S3 에서 받아 보내면서 캐시도 채운다.
+            StreamingResponseBody body = fileDiskCache.openIfCached(s3Key, fileSize)
+                    .map(cachedFile -> streamOf(cachedFile, 0, fileSize))
+                    .orElseGet(() -> streamOf(fileDiskCache.cacheWhileReading(s3Key, fileSize, articleFileService.downloadFile(s3Key))));
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .contentLength(fileSize)
+                    .body(body);
+        }
+
+        if (!isSatisfiable(range, fileSize)) {
+            return rangeNotSatisfiable(fileSize);
+        }
+        long start = range.getRangeStart(fileSize);
+        long end = range.getRangeEnd(fileSize);
+
+        // 구간 요청 때문에 파일 전체를 받지 않도록, 캐시에 없으면 그 구간만 S3 에서 받는다.
+        StreamingResponseBody body = fileDiskCache.openIfCached(s3Key, fileSize)
+                .map(cachedFile -> streamOf(cachedFile, start, end - start + 1))
+                .orElseGet(() -> streamOf(articleFileService.downloadFile(s3Key, start, end)));
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileSize)
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(new InputStreamResource(inputStream));
+                .contentLength(end - start + 1)
+                .body(body);
     }
 
     @DeleteMapping("/{fileId}")
@@ -55,4 +116,85 @@ public class FileController {
         articleFileService.deleteArticleFile(fileId);
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    private String attachmentDisposition(ArticleFile articleFile) {
+        String encodedFilename = URLEncoder.encode(articleFile.getOriginalFileName(), StandardCharsets.UTF_8)
+                .replaceAll("\\+", "%20");
+        return "attachment; filename*=UTF-8''" + encodedFilename;
+    }
+
+    /**
+     * 요청의 {@code Range} 중 첫 번째 범위만 돌려준다. 범위가 없거나, {@code If-Range} 가 현재 ETag 와 다르면 전체를 보낸다.
+     * RFC 7233 에 따라 bytes 가 아닌 단위나 형식이 잘못된 {@code Range} 는 무시하고 전체를 보낸다.
+     * 416 은 형식은 맞지만 파일 크기를 벗어난 범위에만 쓴다. ({@link #isSatisfiable})
+     */
+    private HttpRange resolveRange(ServletWebRequest request, String eTag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            return null;
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.isEmpty() ? null : ranges.get(0);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private boolean isSatisfiable(HttpRange range, long fileSize) {
+        try {
+            range.getRangeStart(fileSize);
+            range.getRangeEnd(fileSize);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private <T> ResponseEntity<T> rangeNotSatisfiable(long fileSize) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize)
+                .build();
+    }
+
+    /**
+     * 디스크 캐시에 있는 파일의 구간을 파일 채널에서 바로 응답으로 보낸다. 다 보내거나 클라이언트가 끊으면 파일을 닫는다.
+     */
+    private StreamingResponseBody streamOf(FileChannel fileChannel, long position, long count) {
+        return outputStream -> {
+            try (fileChannel) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long sent = 0;
+                while (sent < count) {
+                    long transferred = fileChannel.transferTo(position + sent, count - sent, target);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    sent += transferred;
+                }
+            }
+        };
+    }
+
+    /**
+     * S3 스트림을 정해진 크기의 버퍼로 응답에 흘려보낸다. 다 보내거나 클라이언트가 끊으면 스트림을 닫아 S3 연결을 돌려준다.
+     */
+    private StreamingResponseBody streamOf(InputStream inputStream) {
+        int bufferSize = (int) downloadProperties.bufferSize().toBytes();
+        return outputStream -> {
+            try (inputStream) {
+                byte[] buffer = new byte[bufferSize];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.springboard.projectboard.controller;
+
+import com.springboard.projectboard.dto.response.HashtagSuggestionResponse;
+import com.springboard.projectboard.service.HashtagDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/hashtags")
+public class HashtagController {
+
+    private static final int MAX_SUGGESTION_SIZE = 20;
+
+    private final HashtagDictionary hashtagDictionary;
+
+    /**
+     * 해시태그 자동완성. DB 를 거치지 않고 메모리의 해시태그 사전에서 접두어로 찾아, 많이 쓰인 순서로 돌려준다.
+     */
+    @GetMapping("/suggest")
+    public List<HashtagSuggestionResponse> suggestHashtags(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        String normalizedPrefix = prefix.strip();
+        if (normalizedPrefix.startsWith("#")) {
+            normalizedPrefix = normalizedPrefix.substring(1);
+        }
+
+        return hashtagDictionary.findByPrefix(normalizedPrefix, Math.min(Math.max(size, 0), MAX_SUGGESTION_SIZE)).stream()
+                .map(HashtagSuggestionResponse::from)
+                .toList();
+    }
+}
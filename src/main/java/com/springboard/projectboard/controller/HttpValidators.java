@@ -0,0 +1,69 @@
+package com.springboard.projectboard.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET(ETag, Last-Modified) 응답을 만드는 도우미.
+ * 화면과 파일은 로그인 사용자마다 다를 수 있으므로 브라우저에만 캐시하고, 쓸 때마다 다시 확인하게 한다.
+ */
+final class HttpValidators {
+
+    static final String PRIVATE_NO_CACHE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private HttpValidators() {}
+
+    /**
+     * 화면에 그릴 내용으로 약한 ETag 를 만들어 요청과 비교한다.
+     * 로그인 여부에 따라 화면 상단이 달라지므로 사용자 ID 도 섞는다.
+     *
+     * @return 바뀌지 않았으면 {@code true}. 이때 응답은 이미 304 로 정해졌으므로 뷰를 그리지 말아야 한다.
+     */
+    static boolean checkNotModified(ServletWebRequest request, Object... viewContents) {
+        return checkNotModifiedSince(request, null, viewContents);
+    }
+
+    /**
+     * {@link #checkNotModified(ServletWebRequest, Object...)} 에 {@code Last-Modified} 비교를 더한다.
+     *
+     * @param lastModifiedAt 화면 내용의 마지막 수정 시각. 모르면 {@code null}
+     */
+    static boolean checkNotModifiedSince(ServletWebRequest request, LocalDateTime lastModifiedAt, Object... viewContents) {
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, PRIVATE_NO_CACHE);
+        return request.checkNotModified(
+                "W/\"" + digest(request.getRemoteUser(), digest(viewContents)) + "\"",
+                toEpochMillis(lastModifiedAt)
+        );
+    }
+
+    /**
+     * 내용이 바이트 단위로 같을 때만 같은 값이 되는 강한 ETag 를 만든다.
+     */
+    static String strongETag(Object... parts) {
+        return "\"" + digest(parts) + "\"";
+    }
+
+    /**
+     * {@code Last-Modified} 헤더 값. 시각을 모르면 -1 을 반환한다.
+     */
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null
+                ? -1
+                : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String digest(Object... parts) {
+        String joined = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,8 +1,11 @@
 package com.springboard.projectboard.domain;
 
+import com.springboard.projectboard.domain.constant.CacheRegions;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.Collection;
@@ -17,6 +20,8 @@ import java.util.Set;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ARTICLE)
 @Entity
 public class Article extends AuditingFields {
 
@@ -44,11 +49,13 @@ public class Article extends AuditingFields {
             inverseJoinColumns = @JoinColumn(name = "hashtagId")
     )
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ARTICLE_HASHTAGS)
     private Set<Hashtag> hashtags = new LinkedHashSet<>();
 
     @ToString.Exclude
     @OrderBy("createdAt DESC")
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ARTICLE_COMMENTS)
     private final Set<ArticleComment> articleComments = new LinkedHashSet<>();
 
     @ToString.Exclude
@@ -77,6 +84,10 @@ public class Article extends AuditingFields {
         this.getHashtags().addAll(hashtags);
     }
 
+    public void removeHashtags(Collection<Hashtag> hashtags) {
+        this.getHashtags().removeAll(hashtags);
+    }
+
     public void clearHashtags() {
         this.getHashtags().clear();
     }
@@ -1,8 +1,11 @@
 package com.springboard.projectboard.domain;
 
+import com.springboard.projectboard.domain.constant.CacheRegions;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.Objects;
@@ -14,6 +17,8 @@ import java.util.Objects;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ARTICLE_COMMENT)
 @Entity
 public class ArticleComment extends AuditingFields {
 
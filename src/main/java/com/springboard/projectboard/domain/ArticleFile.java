@@ -1,8 +1,10 @@
 package com.springboard.projectboard.domain;
 
+import com.springboard.projectboard.domain.constant.ArticleFileStatus;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.util.Objects;
@@ -11,7 +13,8 @@ import java.util.Objects;
 @ToString(callSuper = true)
 @Table(indexes = {
         @Index(columnList = "articleId"),
-        @Index(columnList = "displayOrder")
+        @Index(columnList = "displayOrder"),
+        @Index(columnList = "status")
 })
 @Entity
 public class ArticleFile extends AuditingFields {
@@ -44,19 +47,66 @@ public class ArticleFile extends AuditingFields {
     @Setter
     private Integer displayOrder;
 
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'READY'") // 비동기 업로드 이전에 올린 첨부파일은 모두 S3 에 있으므로, 컬럼을 추가할 때 READY 로 채운다.
+    @Column(nullable = false, length = 10)
+    private ArticleFileStatus status;
+
+    private String contentType;
+
+    private String spoolPath; // S3 업로드를 기다리는 동안 로컬 디스크에 받아 둔 파일 경로. 업로드가 끝나면 비운다.
+
+    private String thumbnailS3Key; // 이미지가 아니거나 썸네일을 만들지 못했으면 null
+
+    private String thumbnailS3Url;
+
     protected ArticleFile() {}
 
-    private ArticleFile(Article article, String originalFileName, String s3Key, String s3Url, Long fileSize, Integer displayOrder) {
+    private ArticleFile(Article article, String originalFileName, String s3Key, String s3Url, Long fileSize, Integer displayOrder, ArticleFileStatus status, String contentType, String spoolPath) {
         this.article = article;
         this.originalFileName = originalFileName;
         this.s3Key = s3Key;
         this.s3Url = s3Url;
         this.fileSize = fileSize;
         this.displayOrder = displayOrder;
+        this.status = status;
+        this.contentType = contentType;
+        this.spoolPath = spoolPath;
     }
 
     public static ArticleFile of(Article article, String originalFileName, String s3Key, String s3Url, Long fileSize, Integer displayOrder) {
-        return new ArticleFile(article, originalFileName, s3Key, s3Url, fileSize, displayOrder);
+        return new ArticleFile(article, originalFileName, s3Key, s3Url, fileSize, displayOrder, ArticleFileStatus.READY, null, null);
+    }
+
+    /**
+     * 아직 S3 에 올리지 않은 첨부파일. S3 키와 URL 은 미리 정해 두고, 업로드가 끝나면 {@link #markReady(String, String)} 로 바꾼다.
+     */
+    public static ArticleFile pending(Article article, String originalFileName, String s3Key, String s3Url, Long fileSize, Integer displayOrder, String contentType, String spoolPath) {
+        return new ArticleFile(article, originalFileName, s3Key, s3Url, fileSize, displayOrder, ArticleFileStatus.PENDING, contentType, spoolPath);
+    }
+
+    public boolean isPending() {
+        return status == ArticleFileStatus.PENDING;
+    }
+
+    public boolean isReady() {
+        return status == ArticleFileStatus.READY;
+    }
+
+    public boolean isFailed() {
+        return status == ArticleFileStatus.FAILED;
+    }
+
+    public void markReady(String thumbnailS3Key, String thumbnailS3Url) {
+        this.status = ArticleFileStatus.READY;
+        this.spoolPath = null;
+        this.thumbnailS3Key = thumbnailS3Key;
+        this.thumbnailS3Url = thumbnailS3Url;
+    }
+
+    public void markFailed() {
+        this.status = ArticleFileStatus.FAILED;
+        this.spoolPath = null;
     }
 
     @Override
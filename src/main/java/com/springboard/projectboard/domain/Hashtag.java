@@ -1,8 +1,11 @@
 package com.springboard.projectboard.domain;
 
+import com.springboard.projectboard.domain.constant.CacheRegions;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -15,6 +18,8 @@ import java.util.Set;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.HASHTAG)
 @Entity
 public class Hashtag extends AuditingFields{
 
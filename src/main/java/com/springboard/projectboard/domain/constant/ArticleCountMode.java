@@ -0,0 +1,15 @@
+package com.springboard.projectboard.domain.constant;
+
+import lombok.Getter;
+
+public enum ArticleCountMode {
+    EXACT("매번 전체 개수 조회"),
+    CACHED("상한이 있는 개수를 일정 시간 캐시"),
+    SLICE("다음 페이지 존재 여부만 확인");
+
+    @Getter private final String description;
+
+    ArticleCountMode(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,15 @@
+package com.springboard.projectboard.domain.constant;
+
+import lombok.Getter;
+
+public enum ArticleFileStatus {
+    PENDING("로컬 디스크에 받아 두고 S3 업로드를 기다리는 중"),
+    READY("S3 업로드 완료"),
+    FAILED("재시도 후에도 S3 업로드 실패");
+
+    @Getter private final String description;
+
+    ArticleFileStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,21 @@
+package com.springboard.projectboard.domain.constant;
+
+/**
+ * Hibernate 2차 캐시 영역 이름. 엔티티의 {@code @Cache(region = ...)} 와 캐시 설정에서 같이 쓴다.
+ */
+public final class CacheRegions {
+
+    public static final String ARTICLE = "article";
+    public static final String ARTICLE_HASHTAGS = "article.hashtags";
+    public static final String ARTICLE_COMMENTS = "article.articleComments";
+    public static final String ARTICLE_COMMENT = "articleComment";
+    public static final String USER_ACCOUNT = "userAccount";
+    public static final String HASHTAG = "hashtag";
+
+    /** Hibernate 기본 쿼리 캐시 영역 */
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    /** 테이블별 마지막 변경 시각. 쿼리 캐시 무효화에 쓰이므로 만료시키면 안 된다. */
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {}
+}
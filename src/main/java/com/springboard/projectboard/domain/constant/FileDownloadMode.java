@@ -0,0 +1,14 @@
+package com.springboard.projectboard.domain.constant;
+
+import lombok.Getter;
+
+public enum FileDownloadMode {
+    PROXY("앱 서버가 S3 에서 받아 그대로 전달"),
+    REDIRECT("미리 서명한 S3 URL 로 리다이렉트");
+
+    @Getter private final String description;
+
+    FileDownloadMode(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,21 @@
+package com.springboard.projectboard.dto;
+
+/**
+ * 게시글 목록의 전체 개수.
+ *
+ * @param count  센 개수. {@code capped} 이면 실제 개수가 아니라 상한이다.
+ * @param capped 상한까지만 세서 실제로는 더 많을 수 있으면 {@code true}
+ */
+public record ArticleCount(
+        long count,
+        boolean capped
+) {
+
+    public static ArticleCount of(long count, boolean capped) {
+        return new ArticleCount(count, capped);
+    }
+
+    public static ArticleCount exact(long count) {
+        return new ArticleCount(count, false);
+    }
+}
@@ -0,0 +1,70 @@
+package com.springboard.projectboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션용 커서.
+ * 마지막으로 본 게시글의 (createdAt, id) 와 이동 방향을 담고, 클라이언트에는 불투명한 문자열로만 노출한다.
+ */
+public record ArticleCursor(
+        Direction direction,
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static ArticleCursor of(Direction direction, LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(direction, createdAt, id);
+    }
+
+    public static ArticleCursor next(ArticleSummaryDto lastArticle) {
+        return new ArticleCursor(Direction.NEXT, lastArticle.createdAt(), lastArticle.id());
+    }
+
+    public static ArticleCursor previous(ArticleSummaryDto firstArticle) {
+        return new ArticleCursor(Direction.PREVIOUS, firstArticle.createdAt(), firstArticle.id());
+    }
+
+    public static ArticleCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다: " + token);
+            }
+
+            return new ArticleCursor(Direction.valueOf(parts[0]), LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = direction.name() + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isPrevious() {
+        return direction == Direction.PREVIOUS;
+    }
+
+    /**
+     * 같은 위치에서 반대 방향으로 가는 커서
+     */
+    public ArticleCursor reversed() {
+        return new ArticleCursor(isPrevious() ? Direction.NEXT : Direction.PREVIOUS, createdAt, id);
+    }
+
+
+    public enum Direction {
+        NEXT, PREVIOUS
+    }
+}
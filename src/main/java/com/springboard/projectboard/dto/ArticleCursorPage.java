@@ -0,0 +1,22 @@
+package com.springboard.projectboard.dto;
+
+import java.util.List;
+
+public record ArticleCursorPage(
+        List<ArticleSummaryDto> content,
+        String nextCursor,
+        String previousCursor
+) {
+
+    public static ArticleCursorPage of(List<ArticleSummaryDto> content, String nextCursor, String previousCursor) {
+        return new ArticleCursorPage(content, nextCursor, previousCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.springboard.projectboard.dto;
+
+/**
+ * 게시글 상세 화면의 이전/다음 글 이동에 쓰는 ID. 없으면 {@code null} 이다.
+ */
+public record ArticleNeighborIds(
+        Long previousArticleId,
+        Long nextArticleId
+) {
+
+    public static ArticleNeighborIds of(Long previousArticleId, Long nextArticleId) {
+        return new ArticleNeighborIds(previousArticleId, nextArticleId);
+    }
+
+    public static ArticleNeighborIds empty() {
+        return new ArticleNeighborIds(null, null);
+    }
+}
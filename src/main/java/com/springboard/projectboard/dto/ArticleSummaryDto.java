@@ -0,0 +1,33 @@
+package com.springboard.projectboard.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 목록 페이지 전용 게시글 요약 정보.
+ * 본문 전체 대신 미리보기만 담고, 해시태그 이름은 별도 쿼리로 채운다.
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        String contentPreview,
+        Set<String> hashtagNames,
+        LocalDateTime createdAt,
+        String userId,
+        String email,
+        String nickname
+) {
+
+    // Querydsl Projections.constructor 용 생성자
+    public ArticleSummaryDto(Long id, String title, String contentPreview, LocalDateTime createdAt, String userId, String email, String nickname) {
+        this(id, title, contentPreview, Set.of(), createdAt, userId, email, nickname);
+    }
+
+    public static ArticleSummaryDto of(Long id, String title, String contentPreview, Set<String> hashtagNames, LocalDateTime createdAt, String userId, String email, String nickname) {
+        return new ArticleSummaryDto(id, title, contentPreview, hashtagNames, createdAt, userId, email, nickname);
+    }
+
+    public ArticleSummaryDto withHashtagNames(Set<String> hashtagNames) {
+        return new ArticleSummaryDto(id, title, contentPreview, Set.copyOf(hashtagNames), createdAt, userId, email, nickname);
+    }
+}
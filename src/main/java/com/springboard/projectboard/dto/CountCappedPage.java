@@ -0,0 +1,40 @@
+package com.springboard.projectboard.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 전체 개수를 상한까지만 센 페이지. 상한에 걸렸으면 {@link #getTotalElements()} 는 "최소한 이만큼"이라는 뜻이다.
+ * 이때는 전체 페이지 수로 끝을 알 수 없으므로, 현재 페이지가 가득 찼으면 다음 페이지가 있다고 본다.
+ */
+public class CountCappedPage<T> extends PageImpl<T> {
+
+    private final boolean totalCapped;
+
+    public CountCappedPage(List<T> content, Pageable pageable, long total, boolean totalCapped) {
+        super(content, pageable, total);
+        this.totalCapped = totalCapped;
+    }
+
+    public static <T> CountCappedPage<T> of(Page<T> page, boolean totalCapped) {
+        return new CountCappedPage<>(page.getContent(), page.getPageable(), page.getTotalElements(), totalCapped);
+    }
+
+    public boolean isTotalCapped() {
+        return totalCapped;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return super.hasNext() || (totalCapped && getPageable().isPaged() && getNumberOfElements() == getSize());
+    }
+
+    @Override
+    public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+        return new CountCappedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), totalCapped);
+    }
+}
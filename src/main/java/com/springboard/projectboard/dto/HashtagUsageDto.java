@@ -0,0 +1,19 @@
+package com.springboard.projectboard.dto;
+
+/**
+ * 해시태그와 그 해시태그를 쓰는 게시글 수
+ */
+public record HashtagUsageDto(
+        Long id,
+        String hashtagName,
+        Long articleCount
+) {
+
+    public static HashtagUsageDto of(Long id, String hashtagName, Long articleCount) {
+        return new HashtagUsageDto(id, hashtagName, articleCount);
+    }
+
+    public HashtagUsageDto withArticleCount(long articleCount) {
+        return new HashtagUsageDto(id, hashtagName, articleCount);
+    }
+}
@@ -0,0 +1,28 @@
+package com.springboard.projectboard.dto.event;
+
+/**
+ * 게시글이 저장/수정/삭제되었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후에 처리하는 쪽(검색 색인 등)이 게시글 ID 로 필요한 데이터를 다시 읽는다.
+ */
+public record ArticleChangeEvent(
+        Long articleId,
+        Type type
+) {
+
+    public static ArticleChangeEvent saved(Long articleId) {
+        return new ArticleChangeEvent(articleId, Type.SAVED);
+    }
+
+    public static ArticleChangeEvent deleted(Long articleId) {
+        return new ArticleChangeEvent(articleId, Type.DELETED);
+    }
+
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+
+
+    public enum Type {
+        SAVED, DELETED
+    }
+}
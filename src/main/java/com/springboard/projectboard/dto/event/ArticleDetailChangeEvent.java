@@ -0,0 +1,12 @@
+package com.springboard.projectboard.dto.event;
+
+/**
+ * 게시글 본문 외에 상세 화면에 함께 보이는 데이터(댓글, 첨부파일)가 바뀌었음을 알리는 이벤트.
+ * 게시글 자체의 저장/삭제는 {@link ArticleChangeEvent} 로 알린다.
+ */
+public record ArticleDetailChangeEvent(Long articleId) {
+
+    public static ArticleDetailChangeEvent of(Long articleId) {
+        return new ArticleDetailChangeEvent(articleId);
+    }
+}
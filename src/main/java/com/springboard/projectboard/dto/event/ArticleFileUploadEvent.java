@@ -0,0 +1,18 @@
+package com.springboard.projectboard.dto.event;
+
+import java.util.List;
+
+/**
+ * 첨부파일이 로컬 디스크에 받아 둔 상태({@code PENDING})로 저장되었음을 알리는 이벤트.
+ * 커밋되면 S3 로 올리고, 롤백되면 받아 둔 파일을 지운다.
+ */
+public record ArticleFileUploadEvent(
+        Long articleId,
+        List<Long> articleFileIds,
+        List<String> spoolPaths
+) {
+
+    public static ArticleFileUploadEvent of(Long articleId, List<Long> articleFileIds, List<String> spoolPaths) {
+        return new ArticleFileUploadEvent(articleId, List.copyOf(articleFileIds), List.copyOf(spoolPaths));
+    }
+}
@@ -0,0 +1,39 @@
+package com.springboard.projectboard.dto.event;
+
+import com.springboard.projectboard.domain.Hashtag;
+import com.springboard.projectboard.dto.HashtagDto;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글에 해시태그가 연결되거나 끊겼음을 알리는 이벤트. 해시태그 사용 수 집계에 쓴다.
+ */
+public record ArticleHashtagChangeEvent(
+        Set<HashtagDto> addedHashtags,
+        Set<HashtagDto> removedHashtags
+) {
+
+    public static ArticleHashtagChangeEvent of(Collection<Hashtag> addedHashtags, Collection<Hashtag> removedHashtags) {
+        return new ArticleHashtagChangeEvent(toDtos(addedHashtags), toDtos(removedHashtags));
+    }
+
+    public static ArticleHashtagChangeEvent added(Collection<Hashtag> hashtags) {
+        return of(hashtags, Set.of());
+    }
+
+    public static ArticleHashtagChangeEvent removed(Collection<Hashtag> hashtags) {
+        return of(Set.of(), hashtags);
+    }
+
+    public boolean isEmpty() {
+        return addedHashtags.isEmpty() && removedHashtags.isEmpty();
+    }
+
+    private static Set<HashtagDto> toDtos(Collection<Hashtag> hashtags) {
+        return hashtags.stream()
+                .map(HashtagDto::from)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,41 @@
+package com.springboard.projectboard.dto.response;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 상세 화면에 필요한 데이터 전체.
+ *
+ * @param lastModifiedAt 게시글, 댓글, 첨부파일 중 가장 최근 수정 시각
+ * @param version        화면에 보이는 내용이 바뀌면 함께 바뀌는 값. ETag 를 만드는 데 쓴다.
+ */
+public record ArticleDetailResponse(
+        ArticleWithCommentsResponse article,
+        List<ArticleFileResponse> articleFiles,
+        Long previousArticleId,
+        Long nextArticleId,
+        LocalDateTime lastModifiedAt,
+        String version
+) {
+
+    public static ArticleDetailResponse of(
+            ArticleWithCommentsResponse article,
+            List<ArticleFileResponse> articleFiles,
+            Long previousArticleId,
+            Long nextArticleId,
+            LocalDateTime lastModifiedAt
+    ) {
+        // 댓글/파일 삭제나 이웃 글 변경은 수정 시각을 바꾸지 않으므로, 화면 내용 전체로 버전을 만든다.
+        String version = DigestUtils.md5DigestAsHex(String.join("|",
+                String.valueOf(article),
+                String.valueOf(articleFiles),
+                String.valueOf(previousArticleId),
+                String.valueOf(nextArticleId)
+        ).getBytes(StandardCharsets.UTF_8));
+
+        return new ArticleDetailResponse(article, articleFiles, previousArticleId, nextArticleId, lastModifiedAt, version);
+    }
+}
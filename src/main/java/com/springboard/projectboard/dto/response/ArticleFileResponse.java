@@ -0,0 +1,26 @@
+package com.springboard.projectboard.dto.response;
+
+import com.springboard.projectboard.domain.ArticleFile;
+
+public record ArticleFileResponse(
+        Long id,
+        String originalFileName,
+        String s3Url,
+        String thumbnailS3Url,
+        Long fileSize
+) {
+
+    public static ArticleFileResponse of(Long id, String originalFileName, String s3Url, String thumbnailS3Url, Long fileSize) {
+        return new ArticleFileResponse(id, originalFileName, s3Url, thumbnailS3Url, fileSize);
+    }
+
+    public static ArticleFileResponse from(ArticleFile entity) {
+        return new ArticleFileResponse(
+                entity.getId(),
+                entity.getOriginalFileName(),
+                entity.getS3Url(),
+                entity.getThumbnailS3Url(),
+                entity.getFileSize()
+        );
+    }
+}
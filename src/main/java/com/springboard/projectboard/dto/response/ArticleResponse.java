@@ -1,6 +1,7 @@
 package com.springboard.projectboard.dto.response;
 
 import com.springboard.projectboard.dto.ArticleDto;
+import com.springboard.projectboard.dto.ArticleSummaryDto;
 import com.springboard.projectboard.dto.HashtagDto;
 
 import java.time.LocalDateTime;
@@ -23,6 +24,10 @@ public record ArticleResponse(
     }
 
     public static ArticleResponse from(ArticleDto dto) {
+        return from(dto, false);
+    }
+
+    public static ArticleResponse from(ArticleDto dto, boolean hasFiles) {
         String nickname = dto.userAccountDto().nickname();
         if (nickname == null || nickname.isBlank()) {
             nickname = dto.userAccountDto().userId();
@@ -39,7 +44,25 @@ public record ArticleResponse(
                 dto.createdAt(),
                 dto.userAccountDto().email(),
                 nickname,
-                false // 기본값, 필요시 별도 메서드로 설정
+                hasFiles
+        );
+    }
+
+    public static ArticleResponse from(ArticleSummaryDto dto, boolean hasFiles) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleResponse(
+                dto.id(),
+                dto.title(),
+                dto.contentPreview(),
+                dto.hashtagNames(),
+                dto.createdAt(),
+                dto.email(),
+                nickname,
+                hasFiles
         );
     }
 }
@@ -0,0 +1,18 @@
+package com.springboard.projectboard.dto.response;
+
+import com.springboard.projectboard.dto.HashtagUsageDto;
+
+public record HashtagSuggestionResponse(
+        String hashtagName,
+        Long articleCount
+) {
+
+    public static HashtagSuggestionResponse of(String hashtagName, Long articleCount) {
+        return new HashtagSuggestionResponse(hashtagName, articleCount);
+    }
+
+    public static HashtagSuggestionResponse from(HashtagUsageDto dto) {
+        return new HashtagSuggestionResponse(dto.hashtagName(), dto.articleCount());
+    }
+
+}
@@ -1,10 +1,22 @@
 package com.springboard.projectboard.repository;
 
 import com.springboard.projectboard.domain.ArticleFile;
+import com.springboard.projectboard.domain.constant.ArticleFileStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface ArticleFileRepository extends JpaRepository<ArticleFile, Long> {
     List<ArticleFile> findByArticleIdOrderByDisplayOrderAsc(Long articleId);
-}
\ No newline at end of file
+
+    // 목록 페이지에서 첨부파일 유무만 필요하므로, 페이지의 게시글 ID 들 중 파일이 있는 ID 만 한 번에 조회한다.
+    @Query("select distinct articleFile.article.id from ArticleFile articleFile where articleFile.article.id in :articleIds")
+    Set<Long> findArticleIdsHavingFiles(@Param("articleIds") Collection<Long> articleIds);
+
+    List<ArticleFile> findByStatusAndModifiedAtBefore(ArticleFileStatus status, LocalDateTime modifiedAt);
+}
@@ -3,9 +3,12 @@ package com.springboard.projectboard.repository;
 import com.springboard.projectboard.domain.Hashtag;
 import com.springboard.projectboard.repository.querydsl.HashtagRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import javax.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -18,4 +21,12 @@ public interface HashtagRepository extends
 {
     Optional<Hashtag> findByHashtagName(String hashtagName);
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
+
+    /**
+     * 공유 잠금({@code FOR SHARE})을 걸고 읽는다. MySQL REPEATABLE READ 에서 일반 SELECT 는 트랜잭션의 첫 스냅샷을 읽지만,
+     * 잠그면서 읽으면 다른 트랜잭션이 그 사이 커밋한 행까지 보인다.
+     */
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<Hashtag> findForShareByHashtagNameIn(Set<String> hashtagNames);
 }
@@ -1,11 +1,17 @@
 package com.springboard.projectboard.repository.querydsl;
 
+import com.querydsl.core.types.Predicate;
 import com.springboard.projectboard.domain.Article;
+import com.springboard.projectboard.dto.ArticleCursor;
+import com.springboard.projectboard.dto.ArticleNeighborIds;
+import com.springboard.projectboard.dto.ArticleSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 public interface ArticleRepositoryCustom {
 
@@ -18,4 +24,72 @@ public interface ArticleRepositoryCustom {
     List<String> findAllDistinctHashtags();
 
     Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+
+    /**
+     * 목록 페이지 전용 조회.
+     * 페이지에 해당하는 게시글 ID 만 먼저 조회한 뒤, 작성자와 해시태그를 fetch join 으로 한 번에 불러온다.
+     * (ID 페이지 쿼리 + 본 조회 쿼리 + 필요할 때만 count 쿼리)
+     *
+     * @param predicate 검색 조건. {@code null} 이면 전체 게시글을 대상으로 한다.
+     */
+    Page<Article> findArticlePage(Predicate predicate, Pageable pageable);
+
+    /**
+     * 주어진 ID 순서 그대로 게시글을 작성자, 해시태그와 함께 불러온다. (검색 엔진 결과 조회용)
+     */
+    List<Article> findArticlesByIds(List<Long> articleIds);
+
+    /**
+     * 목록 화면용 요약 조회. 엔티티 대신 필요한 컬럼만 projection 으로 가져오며, 본문은 앞부분 미리보기만 읽는다.
+     *
+     * @param predicate 검색 조건. {@code null} 이면 전체 게시글을 대상으로 한다.
+     */
+    Page<ArticleSummaryDto> findArticleSummaries(Predicate predicate, Pageable pageable);
+
+    /**
+     * {@link #findArticleSummaries(Predicate, Pageable)} 와 같지만, 전체 개수는 직접 count 쿼리를 날리지 않고 주어진 공급자에서 얻는다.
+     * 공급자는 마지막 페이지처럼 개수를 계산할 수 없을 때만 호출된다.
+     */
+    Page<ArticleSummaryDto> findArticleSummaries(Predicate predicate, Pageable pageable, LongSupplier totalSupplier);
+
+    /**
+     * 주어진 ID 순서 그대로 요약을 불러온다. (검색 엔진 결과 조회용)
+     */
+    List<ArticleSummaryDto> findArticleSummariesByIds(List<Long> articleIds);
+
+    /**
+     * count 쿼리 없이, 한 건을 더 읽어 다음 페이지가 있는지만 확인하는 요약 조회.
+     */
+    Slice<ArticleSummaryDto> findArticleSummarySlice(Predicate predicate, Pageable pageable);
+
+    /**
+     * 조건에 맞는 게시글 수를 센다.
+     *
+     * @param limit 0 보다 크면 {@code limit + 1} 건까지만 센다. 결과가 {@code limit} 보다 크면 "limit 건 이상"으로 보면 된다.
+     */
+    long countArticles(Predicate predicate, long limit);
+
+    /**
+     * 키셋 페이지네이션 요약 조회. OFFSET 없이 (createdAt, id) 기준으로 커서 다음(또는 이전) 게시글을 찾는다.
+     * 결과는 쿼리 순서 그대로 반환하므로, 이전 방향 조회는 오래된 글부터 정렬되어 있다.
+     *
+     * @param cursor {@code null} 이면 최신 글부터 조회한다.
+     */
+    List<ArticleSummaryDto> findArticleSummariesByCursor(Predicate predicate, ArticleCursor cursor, int limit);
+
+    /**
+     * 전체 게시글을 ID 순으로 나눠 읽는다. (검색 색인 재구성용)
+     * OFFSET 없이 {@code afterId} 다음 ID 부터 읽고 count 쿼리도 날리지 않으므로, 몇 번째 묶음이든 같은 비용이 든다.
+     *
+     * @param afterId {@code null} 이면 처음부터 읽는다.
+     */
+    Slice<Article> findArticleSliceAfterId(Long afterId, int size);
+
+    /**
+     * 이전 글(바로 작은 ID)과 다음 글(바로 큰 ID)의 ID 만 한 번의 쿼리로 찾는다.
+     * 두 값은 PK 인덱스의 max/min 스칼라 서브쿼리로 구하므로 엔티티를 읽지 않는다.
+     *
+     * @return 현재 글이 없으면 둘 다 {@code null}
+     */
+    ArticleNeighborIds findNeighborIds(Long articleId);
 }
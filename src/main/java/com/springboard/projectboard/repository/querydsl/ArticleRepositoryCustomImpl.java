@@ -1,19 +1,39 @@
 package com.springboard.projectboard.repository.querydsl;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.springboard.projectboard.domain.Article;
 import com.springboard.projectboard.domain.QArticle;
 import com.springboard.projectboard.domain.QHashtag;
+import com.springboard.projectboard.domain.QUserAccount;
+import com.springboard.projectboard.dto.ArticleCursor;
+import com.springboard.projectboard.dto.ArticleNeighborIds;
+import com.springboard.projectboard.dto.ArticleSummaryDto;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
+    private static final int CONTENT_PREVIEW_LENGTH = 100;
+
     public ArticleRepositoryCustomImpl() {
         super(Article.class);
     }
@@ -33,12 +53,242 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
         QHashtag hashtag = QHashtag.hashtag;
         QArticle article = QArticle.article;
 
-        JPQLQuery<Article> query = from(article)
+        JPQLQuery<Long> idQuery = from(article)
+                .select(article.id)
                 .innerJoin(article.hashtags, hashtag)
                 .where(hashtag.hashtagName.in(hashtagNames));
-        List<Article> articles = getQuerydsl().applyPagination(pageable, query).fetch();
 
-        return new PageImpl<>(articles, pageable, query.fetchCount());
+        return fetchArticlePage(idQuery, pageable);
+    }
+
+    @Override
+    public Page<Article> findArticlePage(Predicate predicate, Pageable pageable) {
+        QArticle article = QArticle.article;
+
+        JPQLQuery<Long> idQuery = from(article)
+                .select(article.id)
+                .where(predicate);
+
+        return fetchArticlePage(idQuery, pageable);
+    }
+
+    @Override
+    public List<Article> findArticlesByIds(List<Long> articleIds) {
+        return findWithUserAccountAndHashtags(articleIds);
+    }
+
+    @Override
+    public Page<ArticleSummaryDto> findArticleSummaries(Predicate predicate, Pageable pageable) {
+        return findArticleSummaries(predicate, pageable, () -> countArticles(predicate, 0));
+    }
+
+    @Override
+    public Page<ArticleSummaryDto> findArticleSummaries(Predicate predicate, Pageable pageable, LongSupplier totalSupplier) {
+        JPQLQuery<ArticleSummaryDto> query = selectArticleSummaries().where(predicate);
+        List<ArticleSummaryDto> summaries = getQuerydsl().applyPagination(pageable, query).fetch();
+
+        return PageableExecutionUtils.getPage(withHashtagNames(summaries), pageable, totalSupplier);
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findArticleSummariesByIds(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ArticleSummaryDto> summariesById = selectArticleSummaries()
+                .where(QArticle.article.id.in(articleIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(ArticleSummaryDto::id, Function.identity()));
+
+        // 검색 엔진이 준 관련도 순서를 유지한다. 그 사이 삭제된 글은 건너뛴다.
+        List<ArticleSummaryDto> summaries = articleIds.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return withHashtagNames(summaries);
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findArticleSummarySlice(Predicate predicate, Pageable pageable) {
+        JPQLQuery<ArticleSummaryDto> query = getQuerydsl().applyPagination(pageable, selectArticleSummaries().where(predicate));
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(withHashtagNames(query.fetch()), pageable, false);
+        }
+
+        List<ArticleSummaryDto> summaries = new ArrayList<>(query.limit(pageable.getPageSize() + 1L).fetch());
+        boolean hasNext = summaries.size() > pageable.getPageSize();
+        if (hasNext) {
+            summaries.remove(pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(withHashtagNames(summaries), pageable, hasNext);
+    }
+
+    @Override
+    public long countArticles(Predicate predicate, long limit) {
+        QArticle article = QArticle.article;
+
+        // 다중 컬럼 projection 에는 fetchCount 를 쓸 수 없으므로 count 쿼리는 따로 만든다.
+        if (limit <= 0) {
+            Long count = from(article)
+                    .select(article.count())
+                    .where(predicate)
+                    .fetchOne();
+            return count == null ? 0 : count;
+        }
+
+        // JPQL 은 FROM 절 서브쿼리를 지원하지 않으므로, 상한 + 1 건의 ID 만 읽어서 센다.
+        return from(article)
+                .select(article.id)
+                .where(predicate)
+                .limit(limit + 1)
+                .fetch()
+                .size();
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findArticleSummariesByCursor(Predicate predicate, ArticleCursor cursor, int limit) {
+        QArticle article = QArticle.article;
+        boolean backward = cursor != null && cursor.isPrevious();
+
+        List<ArticleSummaryDto> summaries = selectArticleSummaries()
+                .where(predicate, keysetPredicate(cursor))
+                .orderBy(
+                        backward ? article.createdAt.asc() : article.createdAt.desc(),
+                        backward ? article.id.asc() : article.id.desc()
+                )
+                .limit(limit)
+                .fetch();
+
+        return withHashtagNames(summaries);
+    }
+
+    @Override
+    public Slice<Article> findArticleSliceAfterId(Long afterId, int size) {
+        QArticle article = QArticle.article;
+
+        List<Article> articles = new ArrayList<>(from(article)
+                .where(afterId == null ? null : article.id.gt(afterId))
+                .orderBy(article.id.asc())
+                .limit(size + 1L)
+                .fetch());
+        boolean hasNext = articles.size() > size;
+        if (hasNext) {
+            articles.remove(size);
+        }
+
+        return new SliceImpl<>(articles, Pageable.ofSize(size), hasNext);
+    }
+
+    @Override
+    public ArticleNeighborIds findNeighborIds(Long articleId) {
+        QArticle article = QArticle.article;
+        QArticle previous = new QArticle("previous");
+        QArticle next = new QArticle("next");
+
+        // JPQL 에는 UNION 과 윈도 함수가 없으므로, 현재 글 한 줄에 이전/다음 글 ID 를 스칼라 서브쿼리로 붙인다.
+        Tuple neighborIds = from(article)
+                .select(
+                        JPAExpressions.select(previous.id.max()).from(previous).where(previous.id.lt(articleId)),
+                        JPAExpressions.select(next.id.min()).from(next).where(next.id.gt(articleId))
+                )
+                .where(article.id.eq(articleId))
+                .fetchOne();
+
+        if (neighborIds == null) {
+            return ArticleNeighborIds.empty();
+        }
+
+        return ArticleNeighborIds.of(neighborIds.get(0, Long.class), neighborIds.get(1, Long.class));
+    }
+
+    private JPQLQuery<ArticleSummaryDto> selectArticleSummaries() {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        return from(article)
+                .select(Projections.constructor(ArticleSummaryDto.class,
+                        article.id,
+                        article.title,
+                        article.content.substring(0, CONTENT_PREVIEW_LENGTH),
+                        article.createdAt,
+                        userAccount.userId,
+                        userAccount.email,
+                        userAccount.nickname
+                ))
+                .innerJoin(article.userAccount, userAccount);
+    }
+
+    // createdAt 인덱스(+ PK)를 그대로 타도록 (createdAt, id) 튜플 비교를 풀어서 쓴다.
+    private BooleanExpression keysetPredicate(ArticleCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        QArticle article = QArticle.article;
+        if (cursor.isPrevious()) {
+            return article.createdAt.gt(cursor.createdAt())
+                    .or(article.createdAt.eq(cursor.createdAt()).and(article.id.gt(cursor.id())));
+        }
+
+        return article.createdAt.lt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id())));
+    }
+
+    private Page<Article> fetchArticlePage(JPQLQuery<Long> idQuery, Pageable pageable) {
+        List<Long> articleIds = getQuerydsl().applyPagination(pageable, idQuery).fetch();
+
+        return PageableExecutionUtils.getPage(findWithUserAccountAndHashtags(articleIds), pageable, idQuery::fetchCount);
+    }
+
+    // 페이지 순서를 유지하기 위해 ID 목록의 순서대로 다시 정렬해서 돌려준다. 그 사이 삭제된 글은 건너뛴다.
+    private List<Article> findWithUserAccountAndHashtags(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+        Map<Long, Article> articlesById = from(article)
+                .distinct()
+                .innerJoin(article.userAccount).fetchJoin()
+                .leftJoin(article.hashtags).fetchJoin()
+                .where(article.id.in(articleIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity(), (first, duplicate) -> first));
+
+        return articleIds.stream()
+                .map(articlesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<ArticleSummaryDto> withHashtagNames(List<ArticleSummaryDto> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+        List<Long> articleIds = summaries.stream().map(ArticleSummaryDto::id).toList();
+
+        Map<Long, Set<String>> hashtagNamesByArticleId = from(article)
+                .select(article.id, hashtag.hashtagName)
+                .innerJoin(article.hashtags, hashtag)
+                .where(article.id.in(articleIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(article.id),
+                        Collectors.mapping(tuple -> tuple.get(hashtag.hashtagName), Collectors.toUnmodifiableSet())
+                ));
+
+        return summaries.stream()
+                .map(summary -> summary.withHashtagNames(hashtagNamesByArticleId.getOrDefault(summary.id(), Set.of())))
+                .toList();
     }
 
 }
@@ -1,7 +1,38 @@
 package com.springboard.projectboard.repository.querydsl;
 
+import com.springboard.projectboard.dto.HashtagUsageDto;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface HashtagRepositoryCustom {
     List<String> findAllHashtagNames();
+
+    /**
+     * 모든 해시태그와 각 해시태그를 쓰는 게시글 수를 조회한다.
+     */
+    List<HashtagUsageDto> findAllHashtagUsages();
+
+    /**
+     * 아직 없는 해시태그들을 한 번의 JDBC 배치로 저장한다. 이미 있는 이름은 건너뛴다.
+     * 해시태그 이름의 unique 인덱스에 기대므로, 여러 요청이 동시에 같은 해시태그를 만들어도 제약 위반이 나지 않는다.
+     * 엔티티를 거치지 않으므로 영속성 컨텍스트에는 반영되지 않는다. 저장한 해시태그는 다시 조회해서 쓴다.
+     *
+     * @param auditor 생성자/수정자로 기록할 사용자
+     */
+    void insertHashtagNamesIfAbsent(Collection<String> hashtagNames, String auditor);
+
+    /**
+     * 주어진 해시태그 중 어떤 게시글과도 연결되지 않은 것을 한 번의 DELETE 로 지운다.
+     *
+     * @return 삭제한 해시태그 수
+     */
+    int deleteHashtagsWithoutArticles(Collection<Long> hashtagIds);
+
+    /**
+     * 어떤 게시글과도 연결되지 않은 해시태그를 모두 지운다. (백그라운드 정리용)
+     *
+     * @return 삭제한 해시태그 수
+     */
+    int deleteAllHashtagsWithoutArticles();
 }
@@ -1,12 +1,37 @@
 package com.springboard.projectboard.repository.querydsl;
 
+import com.querydsl.core.types.Projections;
 import com.springboard.projectboard.domain.Hashtag;
+import com.springboard.projectboard.domain.QArticle;
 import com.springboard.projectboard.domain.QHashtag;
+import com.springboard.projectboard.dto.HashtagUsageDto;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import javax.persistence.Query;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom{
+
+    // MySQL: 이미 있는 이름이면 아무것도 바꾸지 않는다. (INSERT IGNORE 와 달리 다른 오류는 숨기지 않음)
+    private static final String MYSQL_INSERT_IF_ABSENT =
+            "INSERT INTO hashtag (hashtag_name, created_at, created_by, modified_at, modified_by) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE hashtag_name = hashtag_name";
+
+    // H2 등: 표준 MERGE. MERGE ... KEY 는 기존 행의 생성일시를 덮어쓰므로 쓰지 않는다.
+    private static final String MERGE_INSERT_IF_ABSENT =
+            "MERGE INTO hashtag h USING (VALUES (CAST(? AS VARCHAR(255)))) s(hashtag_name) ON h.hashtag_name = s.hashtag_name " +
+            "WHEN NOT MATCHED THEN INSERT (hashtag_name, created_at, created_by, modified_at, modified_by) VALUES (s.hashtag_name, ?, ?, ?, ?)";
+
+    private static final String DELETE_WITHOUT_ARTICLES =
+            "DELETE FROM hashtag WHERE NOT EXISTS (SELECT 1 FROM article_hashtag ah WHERE ah.hashtag_id = hashtag.id)";
+
     public HashtagRepositoryCustomImpl() {
         super(Hashtag.class);
     }
@@ -19,4 +44,69 @@ public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport imple
                 .select(hashtag.hashtagName)
                 .fetch();
     }
+
+    @Override
+    public List<HashtagUsageDto> findAllHashtagUsages() {
+        QHashtag hashtag = QHashtag.hashtag;
+        QArticle article = QArticle.article;
+
+        return from(hashtag)
+                .select(Projections.constructor(HashtagUsageDto.class,
+                        hashtag.id,
+                        hashtag.hashtagName,
+                        article.id.count()
+                ))
+                .leftJoin(hashtag.articles, article)
+                .groupBy(hashtag.id, hashtag.hashtagName)
+                .fetch();
+    }
+
+    @Override
+    public void insertHashtagNamesIfAbsent(Collection<String> hashtagNames, String auditor) {
+        if (hashtagNames.isEmpty()) {
+            return;
+        }
+
+        Session session = Objects.requireNonNull(getEntityManager()).unwrap(Session.class);
+        session.doWork(connection -> {
+            String databaseName = connection.getMetaData().getDatabaseProductName();
+            boolean mysql = "MySQL".equalsIgnoreCase(databaseName) || "MariaDB".equalsIgnoreCase(databaseName);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            try (PreparedStatement statement = connection.prepareStatement(mysql ? MYSQL_INSERT_IF_ABSENT : MERGE_INSERT_IF_ABSENT)) {
+                for (String hashtagName : hashtagNames) {
+                    statement.setString(1, hashtagName);
+                    statement.setTimestamp(2, now);
+                    statement.setString(3, auditor);
+                    statement.setTimestamp(4, now);
+                    statement.setString(5, auditor);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    public int deleteHashtagsWithoutArticles(Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return 0;
+        }
+
+        return createHashtagNativeQuery(DELETE_WITHOUT_ARTICLES + " AND hashtag.id IN (:hashtagIds)")
+                .setParameter("hashtagIds", hashtagIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteAllHashtagsWithoutArticles() {
+        return createHashtagNativeQuery(DELETE_WITHOUT_ARTICLES).executeUpdate();
+    }
+
+    // 대상 엔티티를 지정해 두지 않으면 Hibernate 는 native DML 후 모든 2차 캐시 영역을 비운다.
+    private Query createHashtagNativeQuery(String sql) {
+        Query query = Objects.requireNonNull(getEntityManager()).createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(Hashtag.class);
+        return query;
+    }
 }
@@ -4,11 +4,13 @@ import com.springboard.projectboard.domain.Article;
 import com.springboard.projectboard.domain.ArticleComment;
 import com.springboard.projectboard.domain.UserAccount;
 import com.springboard.projectboard.dto.ArticleCommentDto;
+import com.springboard.projectboard.dto.event.ArticleDetailChangeEvent;
 import com.springboard.projectboard.repository.ArticleCommentRepository;
 import com.springboard.projectboard.repository.ArticleRepository;
 import com.springboard.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class ArticleCommentService {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(long articleId) {
@@ -39,6 +42,7 @@ public class ArticleCommentService {
 
             UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
             articleCommentRepository.save(dto.toEntity(article, userAccount));
+            eventPublisher.publishEvent(ArticleDetailChangeEvent.of(dto.articleId()));
         }catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다. - dto: {}", e.getLocalizedMessage());
         }
@@ -49,6 +53,7 @@ public class ArticleCommentService {
             ArticleComment articleComment = articleCommentRepository.getReferenceById(dto.id());
             if (dto.content() != null) {
                 articleComment.setContent(dto.content());
+                eventPublisher.publishEvent(ArticleDetailChangeEvent.of(articleComment.getArticle().getId()));
             }
         } catch (EntityNotFoundException e) {
             log.warn("댓글 업데이트 실패. 댓글을 찾을 수 없습니다. - dto: {}", dto);
@@ -56,6 +61,11 @@ public class ArticleCommentService {
     }
 
     public void deleteArticleComment(Long articleCommentId, String userId) {
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        articleCommentRepository.findById(articleCommentId)
+                .map(articleComment -> articleComment.getArticle().getId())
+                .ifPresent(articleId -> {
+                    articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+                    eventPublisher.publishEvent(ArticleDetailChangeEvent.of(articleId));
+                });
     }
 }
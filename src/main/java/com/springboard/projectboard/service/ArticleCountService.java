@@ -0,0 +1,95 @@
+package com.springboard.projectboard.service;
+
+import com.querydsl.core.types.Predicate;
+import com.springboard.projectboard.config.ArticleCountProperties;
+import com.springboard.projectboard.domain.constant.ArticleCountMode;
+import com.springboard.projectboard.dto.ArticleCount;
+import com.springboard.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 목록 페이지의 전체 개수를 구한다.
+ * {@code LIKE '%검색어%'} 검색에서는 count 쿼리가 본 조회보다 비싸므로,
+ * 설정에 따라 상한까지만 센 개수를 (조회 범위, 검색어) 단위로 잠시 캐시해서 재사용한다.
+ * 캐시는 TTL 로만 만료되므로, 글 작성/삭제 직후에는 개수가 TTL 동안 조금 어긋날 수 있다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class ArticleCountService {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCountProperties properties;
+
+    private final Map<CountKey, CachedCount> countCache = new ConcurrentHashMap<>();
+
+    public boolean isSliceMode() {
+        return properties.mode() == ArticleCountMode.SLICE;
+    }
+
+    /**
+     * 페이지 구성에 쓸 전체 개수를 반환한다.
+     * 상한을 넘는 경우에는 상한을 개수로 돌려주고 {@link ArticleCount#capped()} 로 표시한다. 화면은 이때 "상한+" 로 보여 준다.
+     *
+     * @param scope   검색 종류 (예: 검색 유형 이름). 같은 검색어라도 조건이 다르면 다른 값을 써야 한다.
+     * @param keyword 검색어. 전체 조회는 {@code null}
+     */
+    public ArticleCount countArticles(String scope, String keyword, Predicate predicate) {
+        if (properties.mode() != ArticleCountMode.CACHED) {
+            return ArticleCount.exact(articleRepository.countArticles(predicate, 0));
+        }
+
+        long cap = properties.cap();
+        long count = cachedCount(CountKey.of(scope, keyword), predicate);
+        if (!properties.isCapped() || count <= cap) {
+            return ArticleCount.exact(count);
+        }
+
+        return ArticleCount.of(cap, true);
+    }
+
+    private long cachedCount(CountKey key, Predicate predicate) {
+        Instant now = Instant.now();
+        CachedCount cached = countCache.get(key);
+        if (cached != null && cached.isAliveAt(now)) {
+            return cached.count();
+        }
+
+        long count = articleRepository.countArticles(predicate, properties.cap());
+        if (countCache.size() >= properties.maxCacheEntries()) {
+            countCache.values().removeIf(entry -> !entry.isAliveAt(now));
+            if (countCache.size() >= properties.maxCacheEntries()) {
+                log.debug("게시글 개수 캐시가 가득 차서 비웁니다. - size: {}", countCache.size());
+                countCache.clear();
+            }
+        }
+        countCache.put(key, new CachedCount(count, now.plus(properties.cacheTtl())));
+
+        return count;
+    }
+
+
+    private record CountKey(String scope, String keyword) {
+        static CountKey of(String scope, String keyword) {
+            return new CountKey(
+                    scope == null ? "ALL" : scope,
+                    keyword == null || keyword.isBlank() ? null : keyword.strip()
+            );
+        }
+    }
+
+    private record CachedCount(long count, Instant expiresAt) {
+        boolean isAliveAt(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+    }
+
+}
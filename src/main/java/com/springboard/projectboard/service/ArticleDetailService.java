@@ -0,0 +1,141 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.config.ArticleDetailCacheProperties;
+import com.springboard.projectboard.domain.ArticleFile;
+import com.springboard.projectboard.dto.ArticleCommentDto;
+import com.springboard.projectboard.dto.ArticleNeighborIds;
+import com.springboard.projectboard.dto.ArticleWithCommentsDto;
+import com.springboard.projectboard.dto.event.ArticleChangeEvent;
+import com.springboard.projectboard.dto.event.ArticleDetailChangeEvent;
+import com.springboard.projectboard.dto.response.ArticleDetailResponse;
+import com.springboard.projectboard.dto.response.ArticleFileResponse;
+import com.springboard.projectboard.dto.response.ArticleWithCommentsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 상세 화면 데이터(본문과 댓글, 첨부파일, 이전/다음 글 ID)를 한 번에 조립해서 게시글 ID 단위로 캐시한다.
+ * 게시글, 댓글, 첨부파일이 바뀌면 커밋 이후 이벤트로 그 글과 이전/다음 글 ID 가 달라지는 글을 캐시에서 빼고, TTL 이 지나도 다시 읽는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleDetailService {
+
+    private final ArticleService articleService;
+    private final ArticleFileService articleFileService;
+    private final ArticleDetailCacheProperties cacheProperties;
+
+    private final Map<Long, CachedDetail> detailCache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public ArticleDetailResponse getArticleDetail(Long articleId) {
+        Instant now = Instant.now();
+        CachedDetail cached = detailCache.get(articleId);
+        if (cached != null && cached.isAliveAt(now)) {
+            return cached.detail();
+        }
+
+        // 조립하는 사이에 무효화가 일어났다면, 오래된 내용일 수 있으므로 캐시에 넣지 않는다.
+        long invalidationCountBeforeLoad = invalidationCount.get();
+        ArticleDetailResponse detail = loadArticleDetail(articleId);
+        if (invalidationCount.get() == invalidationCountBeforeLoad) {
+            putDetail(articleId, new CachedDetail(detail, now.plus(cacheProperties.ttl())), now);
+        }
+
+        return detail;
+    }
+
+    @TransactionalEventListener
+    public void onArticleChanged(ArticleChangeEvent event) {
+        evict(event.articleId(), true);
+    }
+
+    @TransactionalEventListener
+    public void onArticleDetailChanged(ArticleDetailChangeEvent event) {
+        evict(event.articleId(), false);
+    }
+
+    /**
+     * @param neighborsChanged 글이 새로 생기거나 지워져서 다른 글의 이전/다음 글 ID 가 바뀔 수 있으면 {@code true}
+     */
+    private void evict(Long articleId, boolean neighborsChanged) {
+        invalidationCount.incrementAndGet();
+        detailCache.remove(articleId);
+        if (neighborsChanged) {
+            detailCache.values().removeIf(cached -> cached.isNeighborOf(articleId));
+        }
+    }
+
+    private ArticleDetailResponse loadArticleDetail(Long articleId) {
+        ArticleWithCommentsDto article = articleService.getArticleWithComments(articleId);
+        List<ArticleFile> articleFiles = articleFileService.getArticleFiles(articleId);
+        ArticleNeighborIds neighborIds = articleService.getArticleNeighborIds(articleId);
+
+        LocalDateTime lastModifiedAt = Stream.of(
+                        Stream.of(article.modifiedAt()),
+                        article.articleCommentDtos().stream().map(ArticleCommentDto::modifiedAt),
+                        articleFiles.stream().map(ArticleFile::getModifiedAt)
+                )
+                .flatMap(Function.identity())
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        return ArticleDetailResponse.of(
+                ArticleWithCommentsResponse.from(article),
+                articleFiles.stream().filter(ArticleFile::isReady).map(ArticleFileResponse::from).toList(), // S3 에 아직 올라가지 않은 파일은 보여 주지 않는다.
+                neighborIds.previousArticleId(),
+                neighborIds.nextArticleId(),
+                lastModifiedAt
+        );
+    }
+
+    private void putDetail(Long articleId, CachedDetail cachedDetail, Instant now) {
+        if (detailCache.size() >= cacheProperties.maxEntries()) {
+            detailCache.values().removeIf(entry -> !entry.isAliveAt(now));
+            if (detailCache.size() >= cacheProperties.maxEntries()) {
+                log.debug("게시글 상세 캐시가 가득 차서 비웁니다. - size: {}", detailCache.size());
+                detailCache.clear();
+            }
+        }
+        detailCache.put(articleId, cachedDetail);
+    }
+
+
+    private record CachedDetail(ArticleDetailResponse detail, Instant expiresAt) {
+        boolean isAliveAt(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+
+        /**
+         * {@code articleId} 글이 생기거나 지워졌을 때 이 글의 이전/다음 글 ID 가 달라질 수 있는지.
+         * 이전 글 ID < articleId < 다음 글 ID 이면 새 글이 사이에 끼어든 것이고(마지막 글의 다음 글은 무한대로 본다),
+         * 이전/다음 글 ID 가 articleId 이면 이웃 글이 지워진 것이다.
+         */
+        boolean isNeighborOf(Long articleId) {
+            Long previousId = detail.previousArticleId();
+            Long nextId = detail.nextArticleId();
+            if (articleId.equals(previousId) || articleId.equals(nextId)) {
+                return true;
+            }
+
+            Long id = detail.article().id();
+            return id != null
+                    && (id < articleId ? nextId == null || articleId < nextId : previousId == null || articleId > previousId);
+        }
+    }
+}
@@ -2,16 +2,27 @@ package com.springboard.projectboard.service;
 
 import com.springboard.projectboard.domain.Article;
 import com.springboard.projectboard.domain.ArticleFile;
+import com.springboard.projectboard.domain.constant.ArticleFileStatus;
+import com.springboard.projectboard.dto.event.ArticleDetailChangeEvent;
+import com.springboard.projectboard.dto.event.ArticleFileUploadEvent;
 import com.springboard.projectboard.repository.ArticleFileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.persistence.EntityNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -22,37 +33,104 @@ public class ArticleFileService {
     private final ArticleFileRepository articleFileRepository;
     private final S3FileUploadService s3FileUploadService;
     private final FileValidator fileValidator;
-
+    private final ArticleFileSpool articleFileSpool;
+    private final FileDiskCache fileDiskCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 파일들을 로컬 디스크에 받아 두고, 업로드 대기({@code PENDING}) 상태의 {@link ArticleFile} 로 저장한다.
+     * S3 업로드는 커밋 이후 {@link ArticleFileUploadWorker} 가 하므로, 요청은 S3 를 기다리지 않는다.
+     * 중간에 실패하면 받아 둔 파일을 지우고 예외를 던진다. (롤백 후의 정리는 워커가 한다)
+     */
     public void saveArticleFiles(Article article, List<MultipartFile> files) {
         if (files == null || files.isEmpty()) {
             return;
         }
 
-        int existingFileCount = getArticleFiles(article.getId()).size();
+        // 업로드에 실패한 파일은 글에 보이지 않으므로 개수 제한에 넣지 않는다. 표시 순서는 실패한 파일 뒤에 이어 붙인다.
+        List<ArticleFile> existingFiles = articleFileRepository.findByArticleIdOrderByDisplayOrderAsc(article.getId());
+        int existingFileCount = (int) existingFiles.stream().filter(articleFile -> !articleFile.isFailed()).count();
         fileValidator.validateFiles(files, existingFileCount);
 
-        int nextDisplayOrder = existingFileCount + 1;
-        for (MultipartFile file : files) {
-            if (!file.isEmpty()) {
-                saveArticleFile(article, file, nextDisplayOrder++);
+        List<Long> articleFileIds = new ArrayList<>();
+        List<String> spoolPaths = new ArrayList<>();
+        int displayOrder = existingFiles.stream()
+                .map(ArticleFile::getDisplayOrder)
+                .filter(Objects::nonNull)
+                .max(Integer::compare)
+                .orElse(0) + 1;
+        try {
+            for (MultipartFile file : files) {
+                if (file.isEmpty()) {
+                    continue;
+                }
+                String spoolPath = articleFileSpool.spool(file).toString();
+                spoolPaths.add(spoolPath);
+                articleFileIds.add(savePendingFile(article, file, displayOrder++, spoolPath).getId());
             }
+        } catch (IOException e) {
+            log.error("첨부파일을 받아 두지 못했습니다. - articleId: {}", article.getId(), e);
+            spoolPaths.forEach(articleFileSpool::delete);
+            throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        } catch (RuntimeException e) {
+            spoolPaths.forEach(articleFileSpool::delete);
+            throw e;
         }
+
+        if (articleFileIds.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(ArticleFileUploadEvent.of(article.getId(), articleFileIds, spoolPaths));
+        eventPublisher.publishEvent(ArticleDetailChangeEvent.of(article.getId()));
     }
 
-    private void saveArticleFile(Article article, MultipartFile file, int displayOrder) {
-        String s3Url = s3FileUploadService.uploadFile(file, article.getId(), displayOrder);
-        String s3Key = extractS3Key(s3Url);
+    private ArticleFile savePendingFile(Article article, MultipartFile file, int displayOrder, String spoolPath) {
+        String s3Key = s3FileUploadService.createS3Key(article.getId(), displayOrder, file.getOriginalFilename());
 
-        ArticleFile articleFile = ArticleFile.of(
+        ArticleFile articleFile = ArticleFile.pending(
                 article,
                 file.getOriginalFilename(),
                 s3Key,
-                s3Url,
+                s3FileUploadService.getUrl(s3Key),
                 file.getSize(),
-                displayOrder
+                displayOrder,
+                file.getContentType(),
+                spoolPath
         );
 
-        articleFileRepository.save(articleFile);
+        return articleFileRepository.save(articleFile);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ArticleFile> findPendingFile(Long fileId) {
+        return articleFileRepository.findById(fileId).filter(ArticleFile::isPending);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArticleFile> getPendingFilesModifiedBefore(LocalDateTime modifiedAt) {
+        return articleFileRepository.findByStatusAndModifiedAtBefore(ArticleFileStatus.PENDING, modifiedAt);
+    }
+
+    /**
+     * S3 업로드가 끝난 첨부파일을 보이는 상태로 바꾸고, 썸네일을 만들었으면 함께 기록한다.
+     * 업로드하는 사이 첨부파일(또는 게시글)이 지워졌으면 {@code false} 를 반환하고, 호출한 쪽이 올린 객체를 지운다.
+     *
+     * @param thumbnailS3Key 썸네일을 만들지 않았으면 {@code null}
+     */
+    public boolean markUploaded(Long fileId, String thumbnailS3Key) {
+        Optional<ArticleFile> articleFile = articleFileRepository.findById(fileId);
+        if (articleFile.isEmpty()) {
+            return false;
+        }
+
+        String thumbnailS3Url = thumbnailS3Key == null ? null : s3FileUploadService.getUrl(thumbnailS3Key);
+        articleFile.get().markReady(thumbnailS3Key, thumbnailS3Url);
+        eventPublisher.publishEvent(ArticleDetailChangeEvent.of(articleFile.get().getArticle().getId()));
+        return true;
+    }
+
+    public void markUploadFailed(Long fileId) {
+        articleFileRepository.findById(fileId).ifPresent(ArticleFile::markFailed);
     }
 
     @Transactional(readOnly = true)
@@ -60,6 +138,15 @@ public class ArticleFileService {
         return articleFileRepository.findByArticleIdOrderByDisplayOrderAsc(articleId);
     }
 
+    @Transactional(readOnly = true)
+    public Set<Long> getArticleIdsWithFiles(Collection<Long> articleIds) {
+        if (articleIds == null || articleIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return articleFileRepository.findArticleIdsHavingFiles(articleIds);
+    }
+
     @Transactional(readOnly = true)
     public ArticleFile getArticleFile(Long fileId) {
         return articleFileRepository.findById(fileId)
@@ -70,33 +157,31 @@ public class ArticleFileService {
         return s3FileUploadService.downloadFile(s3Key);
     }
 
+    public InputStream downloadFile(String s3Key, long start, long end) {
+        return s3FileUploadService.downloadFile(s3Key, start, end);
+    }
+
     public void deleteArticleFile(Long fileId) {
         ArticleFile articleFile = getArticleFile(fileId);
-        s3FileUploadService.deleteFile(articleFile.getS3Key());
+        deleteStoredFiles(articleFile);
         articleFileRepository.delete(articleFile);
+        eventPublisher.publishEvent(ArticleDetailChangeEvent.of(articleFile.getArticle().getId()));
     }
 
     public void deleteArticleFiles(Long articleId) {
         List<ArticleFile> files = articleFileRepository.findByArticleIdOrderByDisplayOrderAsc(articleId);
         for (ArticleFile file : files) {
-            s3FileUploadService.deleteFile(file.getS3Key());
+            deleteStoredFiles(file);
         }
         articleFileRepository.deleteAll(files);
     }
 
-    private String extractS3Key(String s3Url) {
-        // S3 URL 형태: https://spring-board-image-files.s3.ap-northeast-2.amazonaws.com/articles/1/1_uuid.jpg
-        try {
-            if (s3Url.contains(".amazonaws.com/")) {
-                String s3Key = s3Url.substring(s3Url.indexOf(".amazonaws.com/") + 15);
-                log.debug("S3 URL: {}, Extracted Key: {}", s3Url, s3Key);
-                return s3Key;
-            }
-            log.warn("Unexpected S3 URL format: {}", s3Url);
-            return s3Url;
-        } catch (Exception e) {
-            log.error("Failed to extract S3 key from URL: {}", s3Url, e);
-            return s3Url;
+    private void deleteStoredFiles(ArticleFile articleFile) {
+        s3FileUploadService.deleteFile(articleFile.getS3Key());
+        if (articleFile.getThumbnailS3Key() != null) {
+            s3FileUploadService.deleteFile(articleFile.getThumbnailS3Key());
         }
+        articleFileSpool.delete(articleFile.getSpoolPath());
+        fileDiskCache.evict(articleFile.getS3Key());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.config.S3UploadProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * S3 에 올리기 전까지 첨부파일을 받아 두는 로컬 디렉터리.
+ * 서블릿이 디스크에 받아 둔 업로드 파일은 요청이 끝나면 지워지므로, 이 디렉터리로 옮겨 둔다.
+ * 서블릿 컨테이너의 임시 디렉터리와 같은 디스크에 두면 복사 없이 이름만 바뀐다.
+ * 위치는 {@code board.file.upload.spool-directory} (기본은 시스템 임시 디렉터리 아래 {@code board-upload-spool})
+ */
+@Slf4j
+@Component
+public class ArticleFileSpool {
+
+    private final Path directory;
+
+    public ArticleFileSpool(S3UploadProperties uploadProperties) {
+        this.directory = Path.of(uploadProperties.spoolDirectory());
+    }
+
+    public Path spool(MultipartFile file) throws IOException {
+        Files.createDirectories(directory);
+        Path spoolPath = Files.createTempFile(directory, "upload-", ".tmp");
+        try {
+            // transferTo(Path) 는 언제나 스트림으로 복사한다. transferTo(File) 은 Part.write 를 거쳐 같은 디스크면 이름만 바꾼다.
+            file.transferTo(spoolPath.toAbsolutePath().toFile());
+            return spoolPath;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spoolPath);
+            throw e;
+        }
+    }
+
+    public boolean exists(String spoolPath) {
+        return spoolPath != null && Files.exists(Path.of(spoolPath));
+    }
+
+    public void delete(String spoolPath) {
+        if (spoolPath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Path.of(spoolPath));
+        } catch (IOException e) {
+            log.warn("받아 둔 첨부파일 삭제 실패: {}", spoolPath, e);
+        }
+    }
+}
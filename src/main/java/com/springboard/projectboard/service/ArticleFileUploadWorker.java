@@ -0,0 +1,184 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.config.S3UploadProperties;
+import com.springboard.projectboard.domain.ArticleFile;
+import com.springboard.projectboard.dto.event.ArticleFileUploadEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 디스크에 받아 둔 첨부파일을 게시글 저장 요청과 따로 S3 에 올린다.
+ * 첨부파일이 커밋되면 작업 스레드에서 올리고, 실패하면 간격을 두 배씩 늘려 가며 {@code board.file.upload.max-attempts} 번까지 다시 시도한다.
+ * 그래도 실패하면 {@code FAILED} 로 바꾼다. 원본을 올린 뒤에는 같은 스레드에서 받아 둔 파일로 썸네일을 만들어 함께 올린다.
+ * 서버 재시작 등으로 놓친 {@code PENDING} 첨부파일은 {@code board.file.upload.recovery-interval} (기본 5분, 예전 이름 {@code recovery-interval-ms} 도 읽는다) 마다 다시 올린다.
+ */
+@Slf4j
+@Component
+public class ArticleFileUploadWorker {
+
+    private final ArticleFileService articleFileService;
+    private final S3FileUploadService s3FileUploadService;
+    private final ArticleFileSpool articleFileSpool;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final S3UploadProperties uploadProperties;
+    private final ThreadPoolTaskScheduler uploadScheduler;
+    private final Set<Long> inFlightFileIds = ConcurrentHashMap.newKeySet(); // 같은 첨부파일을 두 스레드가 올리지 않도록 한다.
+
+    public ArticleFileUploadWorker(
+            ArticleFileService articleFileService,
+            S3FileUploadService s3FileUploadService,
+            ArticleFileSpool articleFileSpool,
+            ThumbnailGenerator thumbnailGenerator,
+            S3UploadProperties uploadProperties
+    ) {
+        this.articleFileService = articleFileService;
+        this.s3FileUploadService = s3FileUploadService;
+        this.articleFileSpool = articleFileSpool;
+        this.thumbnailGenerator = thumbnailGenerator;
+        this.uploadProperties = uploadProperties;
+
+        // 빈으로 등록하면 스프링 기본 스케줄러를 대신하게 되므로, 워커 안에서만 쓰는 스케줄러로 둔다.
+        this.uploadScheduler = new ThreadPoolTaskScheduler();
+        uploadScheduler.setPoolSize(uploadProperties.workerThreads());
+        uploadScheduler.setThreadNamePrefix("article-file-upload-");
+        uploadScheduler.initialize();
+        if (uploadProperties.recoveryIntervalMs() != null) {
+            log.warn("board.file.upload.recovery-interval-ms 는 더 이상 쓰지 않습니다. board.file.upload.recovery-interval 로 바꿔 주세요. - recoveryInterval: {}", uploadProperties.recoveryInterval());
+        }
+        uploadScheduler.scheduleWithFixedDelay(
+                this::recoverStalePendingFiles,
+                Instant.now().plus(uploadProperties.recoveryInterval()),
+                uploadProperties.recoveryInterval()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadScheduler.shutdown();
+    }
+
+    @TransactionalEventListener
+    public void onArticleFilesSaved(ArticleFileUploadEvent event) {
+        event.articleFileIds().forEach(this::enqueue);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onArticleFilesRolledBack(ArticleFileUploadEvent event) {
+        event.spoolPaths().forEach(articleFileSpool::delete);
+    }
+
+    public void recoverStalePendingFiles() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(uploadProperties.staleAfter());
+        for (ArticleFile articleFile : articleFileService.getPendingFilesModifiedBefore(staleBefore)) {
+            log.info("업로드되지 않은 첨부파일을 다시 올립니다. - articleFileId: {}", articleFile.getId());
+            enqueue(articleFile.getId());
+        }
+    }
+
+    void enqueue(Long articleFileId) {
+        if (inFlightFileIds.add(articleFileId)) {
+            uploadScheduler.execute(() -> upload(articleFileId, 1));
+        }
+    }
+
+    private void upload(Long articleFileId, int attempt) {
+        try {
+            if (tryUpload(articleFileId, attempt)) {
+                inFlightFileIds.remove(articleFileId);
+            }
+        } catch (RuntimeException e) {
+            // DB 오류 등. 다음 복구 주기에 다시 집어 갈 수 있도록 놓아 준다.
+            log.error("첨부파일 업로드 처리 실패 - articleFileId: {}", articleFileId, e);
+            inFlightFileIds.remove(articleFileId);
+        }
+    }
+
+    /**
+     * @return 이 첨부파일에 대한 처리가 끝났으면 {@code true}, 재시도를 예약했으면 {@code false}
+     */
+    private boolean tryUpload(Long articleFileId, int attempt) {
+        Optional<ArticleFile> pendingFile = articleFileService.findPendingFile(articleFileId);
+        if (pendingFile.isEmpty()) {
+            return true; // 그 사이 지워졌거나 이미 처리되었다.
+        }
+
+        ArticleFile articleFile = pendingFile.get();
+        String spoolPath = articleFile.getSpoolPath();
+        if (!articleFileSpool.exists(spoolPath)) {
+            log.error("받아 둔 첨부파일이 없어 업로드할 수 없습니다. - articleFileId: {}, spoolPath: {}", articleFileId, spoolPath);
+            articleFileService.markUploadFailed(articleFileId);
+            return true;
+        }
+
+        try {
+            s3FileUploadService.uploadFile(articleFile.getS3Key(), Path.of(spoolPath), articleFile.getContentType());
+        } catch (RuntimeException e) {
+            return retryOrFail(articleFileId, attempt, spoolPath, e);
+        }
+
+        String thumbnailS3Key = uploadThumbnail(articleFile, Path.of(spoolPath));
+        if (!articleFileService.markUploaded(articleFileId, thumbnailS3Key)) {
+            log.info("업로드하는 사이 첨부파일이 지워져 올린 파일을 지웁니다. - articleFileId: {}", articleFileId);
+            s3FileUploadService.deleteFile(articleFile.getS3Key());
+            if (thumbnailS3Key != null) {
+                s3FileUploadService.deleteFile(thumbnailS3Key);
+            }
+        }
+        articleFileSpool.delete(spoolPath);
+        return true;
+    }
+
+    /**
+     * 받아 둔 원본으로 썸네일을 만들어 원본 옆에 올린다. 썸네일이 없어도 원본은 보여 줄 수 있으므로, 실패해도 다시 시도하지 않는다.
+     *
+     * @return 올린 썸네일의 S3 키. 이미지가 아니거나 실패했으면 {@code null}
+     */
+    private String uploadThumbnail(ArticleFile articleFile, Path source) {
+        Path thumbnailFile = null;
+        try {
+            thumbnailFile = thumbnailGenerator.createThumbnail(source).orElse(null);
+            if (thumbnailFile == null) {
+                return null;
+            }
+
+            String thumbnailS3Key = s3FileUploadService.createThumbnailKey(articleFile.getS3Key());
+            s3FileUploadService.uploadFile(thumbnailS3Key, thumbnailFile, MediaType.IMAGE_JPEG_VALUE);
+            return thumbnailS3Key;
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일을 만들지 못해 원본만 보여 줍니다. - s3Key: {}", articleFile.getS3Key(), e);
+            return null;
+        } finally {
+            if (thumbnailFile != null) {
+                articleFileSpool.delete(thumbnailFile.toString());
+            }
+        }
+    }
+
+    private boolean retryOrFail(Long articleFileId, int attempt, String spoolPath, RuntimeException e) {
+        if (attempt >= uploadProperties.maxAttempts()) {
+            log.error("첨부파일 업로드를 포기합니다. - articleFileId: {}, attempts: {}", articleFileId, attempt, e);
+            articleFileService.markUploadFailed(articleFileId);
+            articleFileSpool.delete(spoolPath);
+            return true;
+        }
+
+        Duration backoff = uploadProperties.backoffAfter(attempt);
+        log.warn("첨부파일 업로드 실패. {} 후 다시 시도합니다. - articleFileId: {}, attempt: {}", backoff, articleFileId, attempt);
+        uploadScheduler.schedule(() -> upload(articleFileId, attempt + 1), Instant.now().plus(backoff));
+        return false;
+    }
+}
@@ -0,0 +1,122 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.domain.QArticle;
+import com.springboard.projectboard.domain.QHashtag;
+import com.springboard.projectboard.domain.constant.SearchType;
+import com.springboard.projectboard.service.search.ArticleSearchQuery;
+import com.springboard.projectboard.service.search.ArticleSearchQueryParser;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 종류와 검색어를 Querydsl 게시글 조건으로 바꾼다. 검색 엔진을 쓰지 않는 검색은 모두 이 조건으로 DB 에서 찾는다.
+ */
+public final class ArticleSearchPredicates {
+
+    private ArticleSearchPredicates() {}
+
+    /**
+     * 검색 종류와 검색어로 게시글 조건을 만든다. 검색어가 없으면 {@code null} (조건 없음) 이다.
+     */
+    public static Predicate of(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
+        }
+
+        QArticle article = QArticle.article;
+        return switch (searchType) {
+            case TITLE -> containsPredicate(article.title, searchKeyword);
+            case CONTENT -> containsPredicate(article.content, searchKeyword);
+            case ID -> article.userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> article.userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> hashtagPredicate(searchKeyword);
+        };
+    }
+
+    /**
+     * 검색어 문법(AND/OR/구문/제외)을 LIKE 조건으로 바꾼다. 단어 하나면 기존과 같은 {@code contains} 조건이다.
+     * {@code OR}, {@code -} 처럼 해석하면 아무 조건도 남지 않는 검색어는 전체 글이 나오지 않도록 입력한 그대로 찾는다.
+     */
+    private static Predicate containsPredicate(StringPath path, String searchKeyword) {
+        ArticleSearchQuery searchQuery = ArticleSearchQueryParser.parse(searchKeyword);
+        if (searchQuery.isEmpty()) {
+            return path.contains(searchKeyword.strip());
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        searchQuery.requiredGroups().forEach(group -> predicates.add(ExpressionUtils.anyOf(
+                group.stream().map(term -> (Predicate) path.contains(term.text())).toList()
+        )));
+        searchQuery.excludedTerms().forEach(term -> predicates.add(path.contains(term.text()).not()));
+
+        return ExpressionUtils.allOf(predicates);
+    }
+
+    /**
+     * 해시태그 검색어를 조건으로 바꾼다. 공백으로 나눈 해시태그는 모두 달린 글(AND), {@code |}/{@code OR} 로 묶은 해시태그는
+     * 하나라도 달린 글(OR), {@code -} 를 붙인 해시태그는 달리지 않은 글만 찾는다.
+     * 조건은 모두 게시글 기준 서브쿼리라서 연결 테이블 조인으로 같은 글이 여러 번 나오지 않는다.
+     * 해석하면 아무 조건도 남지 않는 검색어는 입력한 그대로의 해시태그로 찾는다.
+     */
+    private static Predicate hashtagPredicate(String searchKeyword) {
+        ArticleSearchQuery searchQuery = ArticleSearchQueryParser.parse(searchKeyword);
+        QArticle article = QArticle.article;
+        if (searchQuery.isEmpty()) {
+            return article.hashtags.any().hashtagName.eq(toHashtagName(ArticleSearchQuery.Term.word(searchKeyword)));
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        Set<String> requiredHashtagNames = searchQuery.requiredGroups().stream()
+                .filter(group -> group.size() == 1)
+                .map(group -> toHashtagName(group.get(0)))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requiredHashtagNames.size() == 1) {
+            predicates.add(article.hashtags.any().hashtagName.eq(requiredHashtagNames.iterator().next()));
+        } else if (requiredHashtagNames.size() > 1) {
+            predicates.add(article.id.in(articleIdsWithAllHashtags(requiredHashtagNames)));
+        }
+        searchQuery.requiredGroups().stream()
+                .filter(group -> group.size() > 1)
+                .forEach(group -> predicates.add(article.hashtags.any().hashtagName.in(
+                        group.stream().map(ArticleSearchPredicates::toHashtagName).toList()
+                )));
+        if (!searchQuery.excludedTerms().isEmpty()) {
+            predicates.add(article.hashtags.any().hashtagName.in(
+                    searchQuery.excludedTerms().stream().map(ArticleSearchPredicates::toHashtagName).toList()
+            ).not());
+        }
+
+        return ExpressionUtils.allOf(predicates);
+    }
+
+    /**
+     * 주어진 해시태그가 모두 달린 게시글 ID 서브쿼리. 해시태그별 게시글 목록의 교집합을
+     * {@code GROUP BY 게시글 HAVING COUNT(DISTINCT 해시태그) = n} 한 번으로 구한다.
+     */
+    private static JPQLQuery<Long> articleIdsWithAllHashtags(Set<String> hashtagNames) {
+        QArticle taggedArticle = new QArticle("taggedArticle");
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return JPAExpressions.select(taggedArticle.id)
+                .from(taggedArticle)
+                .innerJoin(taggedArticle.hashtags, hashtag)
+                .where(hashtag.hashtagName.in(hashtagNames))
+                .groupBy(taggedArticle.id)
+                .having(hashtag.id.countDistinct().eq((long) hashtagNames.size()));
+    }
+
+    private static String toHashtagName(ArticleSearchQuery.Term term) {
+        String text = term.text().strip();
+        return text.startsWith("#") ? text.substring(1) : text;
+    }
+}
@@ -2,26 +2,43 @@ package com.springboard.projectboard.service;
 
 import com.springboard.projectboard.domain.Article;
 import com.springboard.projectboard.domain.Hashtag;
+import com.springboard.projectboard.domain.QArticle;
 import com.springboard.projectboard.domain.UserAccount;
 import com.springboard.projectboard.domain.constant.SearchType;
+import com.springboard.projectboard.dto.ArticleCount;
+import com.springboard.projectboard.dto.ArticleCursor;
+import com.springboard.projectboard.dto.ArticleCursorPage;
 import com.springboard.projectboard.dto.ArticleDto;
+import com.springboard.projectboard.dto.ArticleNeighborIds;
+import com.springboard.projectboard.dto.ArticleSummaryDto;
 import com.springboard.projectboard.dto.ArticleWithCommentsDto;
+import com.springboard.projectboard.dto.CountCappedPage;
+import com.springboard.projectboard.dto.event.ArticleChangeEvent;
+import com.springboard.projectboard.dto.event.ArticleHashtagChangeEvent;
 import com.springboard.projectboard.repository.ArticleRepository;
-import com.springboard.projectboard.repository.HashtagRepository;
 import com.springboard.projectboard.repository.UserAccountRepository;
+import com.springboard.projectboard.service.search.ArticleSearchEngine;
+import com.querydsl.core.types.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.persistence.EntityNotFoundException;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,26 +50,69 @@ public class ArticleService {
     private final HashtagService hashtagService;
     private final ArticleRepository articleRepository;
     private final UserAccountRepository userAccountRepository;
-    private final HashtagRepository hashtagRepository;
+    private final HashtagDictionary hashtagDictionary;
     private final ArticleFileService articleFileService;
+    private final ArticleCountService articleCountService;
+    private final ObjectProvider<ArticleSearchEngine> articleSearchEngineProvider; // board.search.engine 을 설정하지 않으면 비어 있다.
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
-        if (searchKeyword == null || searchKeyword.isBlank()) {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+        Optional<ArticleSearchEngine> searchEngine = searchEngineFor(searchType, searchKeyword);
+        if (searchEngine.isPresent()) {
+            Page<Long> articleIds = searchEngine.get().searchArticleIds(searchType, searchKeyword, pageable);
+            List<ArticleDto> articles = articleRepository.findArticlesByIds(articleIds.getContent()).stream()
+                    .map(ArticleDto::from)
+                    .toList();
+            return new PageImpl<>(articles, pageable, articleIds.getTotalElements());
+        }
+        return articleRepository.findArticlePage(ArticleSearchPredicates.of(searchType, searchKeyword), pageable)
+                .map(ArticleDto::from);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ArticleSummaryDto> searchArticleSummaries(SearchType searchType, String searchKeyword, Pageable pageable) {
+        Optional<ArticleSearchEngine> searchEngine = searchEngineFor(searchType, searchKeyword);
+        if (searchEngine.isPresent()) {
+            Page<Long> articleIds = searchEngine.get().searchArticleIds(searchType, searchKeyword, pageable);
+            List<ArticleSummaryDto> summaries = articleRepository.findArticleSummariesByIds(articleIds.getContent());
+            return new PageImpl<>(summaries, pageable, articleIds.getTotalElements());
+        }
+
+        String scope = searchType == null ? null : searchType.name();
+        return findArticleSummaries(scope, searchKeyword, ArticleSearchPredicates.of(searchType, searchKeyword), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public ArticleCursorPage searchArticleSummariesByCursor(SearchType searchType, String searchKeyword, String cursorToken, int size) {
+        ArticleCursor cursor = decodeCursor(cursorToken);
+        boolean backward = cursor != null && cursor.isPrevious();
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회한다.
+        List<ArticleSummaryDto> articles = new ArrayList<>(
+                articleRepository.findArticleSummariesByCursor(ArticleSearchPredicates.of(searchType, searchKeyword), cursor, size + 1)
+        );
+        boolean hasMore = articles.size() > size;
+        if (hasMore) {
+            articles.remove(size);
+        }
+        if (backward) {
+            Collections.reverse(articles);
         }
+        if (articles.isEmpty()) {
+            // 그 사이 글이 지워져 빈 페이지가 되었더라도, 들어온 위치에서 되돌아갈 수 있도록 반대 방향 커서를 남긴다.
+            String reverseCursor = cursor == null ? null : cursor.reversed().encode();
+            return ArticleCursorPage.of(List.of(), backward ? reverseCursor : null, backward ? null : reverseCursor);
+        }
+
+        boolean hasNext = backward || hasMore;
+        boolean hasPrevious = backward ? hasMore : cursor != null;
 
-        return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(
-                            Arrays.stream(searchKeyword.split(" ")).toList(),
-                            pageable
-                    )
-                    .map(ArticleDto::from);
-        };
+        return ArticleCursorPage.of(
+                List.copyOf(articles),
+                hasNext ? ArticleCursor.next(articles.get(articles.size() - 1)).encode() : null,
+                hasPrevious ? ArticleCursor.previous(articles.get(0)).encode() : null
+        );
     }
 
     @Transactional(readOnly = true)
@@ -76,23 +136,15 @@ public class ArticleService {
     }
 
     public void saveArticle(ArticleDto dto) {
-        UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-        Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
-
-        Article article = dto.toEntity(userAccount);
-        article.addHashtags(hashtags);
-
-        articleRepository.save(article);
+        saveArticleEntity(dto);
     }
 
+    /**
+     * 게시글과 첨부파일 정보를 한 트랜잭션으로 저장한다. 파일은 로컬 디스크에 받아 두기만 하고,
+     * S3 업로드는 커밋 이후 {@link ArticleFileUploadWorker} 가 따로 처리한다.
+     */
     public void saveArticleWithFiles(ArticleDto dto, List<MultipartFile> files) {
-        UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-        Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
-
-        Article article = dto.toEntity(userAccount);
-        article.addHashtags(hashtags);
-        Article savedArticle = articleRepository.save(article);
-
+        Article savedArticle = saveArticleEntity(dto);
         articleFileService.saveArticleFiles(savedArticle, files);
     }
 
@@ -104,19 +156,15 @@ public class ArticleService {
                     .orElseThrow(() -> new EntityNotFoundException("사용자 계정을 찾을 수 없습니다."));
 
             if (article.getUserAccount().equals(userAccount)) {
+                boolean contentChanged = dto.content() != null && !dto.content().equals(article.getContent());
                 if (dto.title() != null) { article.setTitle(dto.title()); }
                 if (dto.content() != null) { article.setContent(dto.content()); }
 
-                Set<Long> hashtagIds = article.getHashtags().stream()
-                        .map(Hashtag::getId)
-                        .collect(Collectors.toUnmodifiableSet());
-                article.clearHashtags();
-                articleRepository.flush();
-
-                hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
-
-                Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
-                article.addHashtags(hashtags);
+                // 본문이 그대로면 해시태그도 그대로이므로 해시태그 작업을 모두 건너뛴다.
+                if (contentChanged) {
+                    updateHashtags(article, dto.content());
+                }
+                eventPublisher.publishEvent(ArticleChangeEvent.saved(articleId));
             }
         } catch (EntityNotFoundException e) {
             log.warn("게시글 업데이트 실패. 게시글 수정에 필요한 정보를 찾을 수 없습니다. - {}", e.getLocalizedMessage());
@@ -125,7 +173,8 @@ public class ArticleService {
 
     public void deleteArticle(long articleId, String userId) {
         Article article = articleRepository.getReferenceById(articleId);
-        Set<Long> hashtagIds = article.getHashtags().stream()
+        Set<Hashtag> hashtags = Set.copyOf(article.getHashtags());
+        Set<Long> hashtagIds = hashtags.stream()
                 .map(Hashtag::getId)
                 .collect(Collectors.toUnmodifiableSet());
 
@@ -133,7 +182,9 @@ public class ArticleService {
         articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
         articleRepository.flush();
 
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+        hashtagService.deleteHashtagsWithoutArticles(hashtagIds);
+        eventPublisher.publishEvent(ArticleChangeEvent.deleted(articleId));
+        eventPublisher.publishEvent(ArticleHashtagChangeEvent.removed(hashtags));
     }
 
     public long getArticleCount() {
@@ -141,17 +192,8 @@ public class ArticleService {
     }
 
     @Transactional(readOnly = true)
-    public Long getPreviousArticleId(Long currentId) {
-        return articleRepository.findTopByIdLessThanOrderByIdDesc(currentId)
-                .map(Article::getId)
-                .orElse(null);
-    }
-
-    @Transactional(readOnly = true)
-    public Long getNextArticleId(Long currentId) {
-        return articleRepository.findTopByIdGreaterThanOrderByIdAsc(currentId)
-                .map(Article::getId)
-                .orElse(null);
+    public ArticleNeighborIds getArticleNeighborIds(Long currentId) {
+        return articleRepository.findNeighborIds(currentId);
     }
 
     @Transactional(readOnly = true)
@@ -164,24 +206,123 @@ public class ArticleService {
                 .map(ArticleDto::from);
     }
 
+    @Transactional(readOnly = true)
+    public Page<ArticleSummaryDto> searchArticleSummariesViaHashtag(String hashtagName, Pageable pageable) {
+        if (hashtagName == null || hashtagName.isBlank()) {
+            return Page.empty(pageable);
+        }
+
+        return findArticleSummaries(
+                "HASHTAG_NAME",
+                hashtagName,
+                QArticle.article.hashtags.any().hashtagName.eq(hashtagName),
+                pageable
+        );
+    }
+
+    /**
+     * 해시태그 이름 목록을 많이 쓰인 순서로 반환한다. DB 대신 메모리의 해시태그 사전에서 읽는다.
+     */
     public List<String> getHashtags() {
-        // TODO: HashtagService 로 이동 고려할 것.
-        return hashtagRepository.findAllHashtagNames();
+        return hashtagDictionary.getHashtagNames();
     }
 
-    private Set<Hashtag> renewHashtagsFromContent(String content) {
+    private Article saveArticleEntity(ArticleDto dto) {
+        UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
+        Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
+
+        Article article = dto.toEntity(userAccount);
+        article.addHashtags(hashtags);
+
+        Article savedArticle = articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleChangeEvent.saved(savedArticle.getId()));
+        eventPublisher.publishEvent(ArticleHashtagChangeEvent.added(hashtags));
+        return savedArticle;
+    }
+
+    /**
+     * 검색 엔진이 없거나 지원하지 않는 검색 유형이면 비어 있고, 이때는 Querydsl {@code LIKE} 조건으로 검색한다.
+     */
+    private Optional<ArticleSearchEngine> searchEngineFor(SearchType searchType, String searchKeyword) {
+        if (searchKeyword == null || searchKeyword.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(articleSearchEngineProvider.getIfAvailable())
+                .filter(searchEngine -> searchEngine.supports(searchType));
+    }
+
+    private Page<ArticleSummaryDto> findArticleSummaries(String scope, String keyword, Predicate predicate, Pageable pageable) {
+        if (articleCountService.isSliceMode()) {
+            // 전체 개수 대신 "최소한 다음 페이지까지는 있다"는 값으로 페이지를 만들어, 기존 페이지네이션 바를 그대로 쓴다.
+            Slice<ArticleSummaryDto> slice = articleRepository.findArticleSummarySlice(predicate, pageable);
+            long knownTotal = pageable.isPaged()
+                    ? pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0)
+                    : slice.getNumberOfElements();
+            return new PageImpl<>(slice.getContent(), pageable, knownTotal);
+        }
+
+        // 개수는 마지막 페이지처럼 목록만으로 알 수 없을 때만 센다. 상한에 걸렸는지는 페이지에 담아 화면에 넘긴다.
+        AtomicBoolean totalCapped = new AtomicBoolean();
+        Page<ArticleSummaryDto> page = articleRepository.findArticleSummaries(
+                predicate,
+                pageable,
+                () -> {
+                    ArticleCount count = articleCountService.countArticles(scope, keyword, predicate);
+                    totalCapped.set(count.capped());
+                    return count.count();
+                }
+        );
+        return CountCappedPage.of(page, totalCapped.get());
+    }
+
+    private ArticleCursor decodeCursor(String cursorToken) {
+        try {
+            return ArticleCursor.decode(cursorToken);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 커서가 전달되어 첫 페이지부터 조회합니다. - {}", e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 본문의 해시태그와 현재 연결된 해시태그를 비교해서, 달라진 것만 연결하거나 끊는다.
+     * 연결 테이블에는 바뀐 행만 insert/delete 된다.
+     */
+    private void updateHashtags(Article article, String content) {
         Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
-        Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
-        Set<String> existingHashtagNames = hashtags.stream()
+        Set<Hashtag> removedHashtags = article.getHashtags().stream()
+                .filter(hashtag -> !hashtagNamesInContent.contains(hashtag.getHashtagName()))
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> currentHashtagNames = article.getHashtags().stream()
                 .map(Hashtag::getHashtagName)
                 .collect(Collectors.toUnmodifiableSet());
+        Set<String> addedHashtagNames = hashtagNamesInContent.stream()
+                .filter(hashtagName -> !currentHashtagNames.contains(hashtagName))
+                .collect(Collectors.toUnmodifiableSet());
 
-        hashtagNamesInContent.forEach(newHashtagName -> {
-            if (!existingHashtagNames.contains(newHashtagName)) {
-                hashtags.add(Hashtag.of(newHashtagName));
-            }
-        });
-        return hashtags;
+        Set<Hashtag> addedHashtags = addedHashtagNames.isEmpty()
+                ? Set.of()
+                : hashtagService.findOrCreateHashtags(addedHashtagNames);
+        if (!addedHashtags.isEmpty()) {
+            article.addHashtags(addedHashtags);
+        }
+        if (!removedHashtags.isEmpty()) {
+            article.removeHashtags(removedHashtags);
+            articleRepository.flush();
+
+            hashtagService.deleteHashtagsWithoutArticles(removedHashtags.stream()
+                    .map(Hashtag::getId)
+                    .collect(Collectors.toUnmodifiableSet()));
+        }
+
+        ArticleHashtagChangeEvent event = ArticleHashtagChangeEvent.of(addedHashtags, removedHashtags);
+        if (!event.isEmpty()) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private Set<Hashtag> renewHashtagsFromContent(String content) {
+        return hashtagService.findOrCreateHashtags(hashtagService.parseHashtagNames(content));
     }
 
 }
@@ -0,0 +1,317 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.config.FileDiskCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * S3 에서 받은 첨부파일을 로컬 디스크에 두고, 같은 파일을 다시 받을 때 S3 를 거치지 않고 보낸다.
+ * S3 키마다 내용이 바뀌지 않으므로 키 단위로 캐시하고, 전체 크기가 상한을 넘으면 가장 오래 쓰이지 않은 파일부터 지운다.
+ * 파일 전체를 S3 에서 받아 보낼 때 임시 파일에도 함께 쓰고, 끝까지 받은 뒤 이름을 바꿔서 넣으므로 받다 만 파일을 보내는 일은 없다.
+ * 구간 요청은 캐시에 있을 때만 캐시에서 보내고, 캐시를 채우지는 않는다.
+ */
+@Slf4j
+@Component
+public class FileDiskCache {
+
+    private static final String FILL_PREFIX = "fill-";
+    private static final String FILL_SUFFIX = ".tmp";
+    private static final Pattern CACHE_FILE_NAME = Pattern.compile(
+            "[0-9a-f]{32}|" + Pattern.quote(FILL_PREFIX) + ".*" + Pattern.quote(FILL_SUFFIX)
+    );
+
+    private final FileDiskCacheProperties properties;
+    private final Path directory;
+
+    private final Map<String, CachedFile> cachedFiles = new LinkedHashMap<>(16, 0.75f, true); // 접근 순서. this 로 동기화한다.
+    private long currentSize;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public FileDiskCache(FileDiskCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.directory = Path.of(properties.directory());
+
+        this.hits = meterRegistry.counter("board.file.disk-cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("board.file.disk-cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("board.file.disk-cache.evictions");
+        Gauge.builder("board.file.disk-cache.size", this, FileDiskCache::getCurrentSize)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        if (properties.enabled()) {
+            clearCacheFiles(); // 이전 실행에서 남은 파일은 어떤 키인지 알 수 없으므로 지우고 시작한다.
+        }
+    }
+
+    /**
+     * 캐시한 파일을 읽기용으로 연다. 캐시를 쓰지 않거나, 아직 캐시에 없거나, 디스크 오류가 나면 비어 있고 이때 호출한 쪽은 S3 에서 보낸다.
+     * 캐시를 채우지는 않으므로, 구간 요청처럼 파일 전체를 받지 않는 경우에도 쓸 수 있다.
+     * 열어 둔 파일은 캐시에서 지워져도 닫을 때까지 읽을 수 있다.
+     */
+    public Optional<FileChannel> openIfCached(String s3Key, long fileSize) {
+        if (!isCacheable(fileSize)) {
+            return Optional.empty();
+        }
+
+        Path cachedFile = lookup(s3Key);
+        if (cachedFile == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        try {
+            FileChannel fileChannel = FileChannel.open(cachedFile, StandardOpenOption.READ);
+            hits.increment();
+            return Optional.of(fileChannel);
+        } catch (IOException e) {
+            log.warn("디스크 캐시 파일을 열지 못해 S3 에서 바로 보냅니다. - s3Key: {}", s3Key, e);
+            evict(s3Key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * S3 에서 받는 파일 전체를 읽는 쪽에 그대로 넘기면서 임시 파일에도 써 두고, 끝까지 읽으면 캐시에 넣는다.
+     * S3 를 한 번만 부르고, 디스크에 다 쓰기를 기다리지 않고 바로 보낼 수 있다.
+     * 끝까지 읽기 전에 닫히거나, 받은 크기가 다르거나, 디스크에 쓰지 못하면 캐시에 넣지 않을 뿐 읽는 쪽에는 영향이 없다.
+     *
+     * @return 캐시를 쓰지 않는 파일이거나 임시 파일을 만들지 못하면 {@code source} 그대로
+     */
+    public InputStream cacheWhileReading(String s3Key, long fileSize, InputStream source) {
+        if (!isCacheable(fileSize)) {
+            return source;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, FILL_PREFIX, FILL_SUFFIX);
+            return new FillingInputStream(source, s3Key, fileSize, tempFile);
+        } catch (IOException e) {
+            log.warn("디스크 캐시 임시 파일을 만들지 못해 캐시하지 않고 보냅니다. - s3Key: {}", s3Key, e);
+            return source;
+        }
+    }
+
+    public void evict(String s3Key) {
+        CachedFile removed;
+        synchronized (this) {
+            removed = cachedFiles.remove(s3Key);
+            if (removed != null) {
+                currentSize -= removed.size();
+            }
+        }
+        if (removed != null) {
+            deleteQuietly(removed.path());
+        }
+    }
+
+    public synchronized long getCurrentSize() {
+        return currentSize;
+    }
+
+    private boolean isCacheable(long fileSize) {
+        return properties.enabled() && fileSize <= properties.maxFileSize().toBytes();
+    }
+
+    private synchronized Path lookup(String s3Key) {
+        CachedFile cachedFile = cachedFiles.get(s3Key);
+        return cachedFile == null ? null : cachedFile.path();
+    }
+
+    private void completeFill(String s3Key, long fileSize, Path tempFile, long written) {
+        try {
+            if (written != fileSize) {
+                throw new IOException("받은 크기가 파일 크기와 다릅니다. - expected: " + fileSize + ", actual: " + written);
+            }
+
+            Path cachedFile = directory.resolve(DigestUtils.md5DigestAsHex(s3Key.getBytes(StandardCharsets.UTF_8)));
+            Files.move(tempFile, cachedFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            register(s3Key, cachedFile, written);
+        } catch (IOException e) {
+            log.warn("받은 파일을 디스크 캐시에 넣지 못했습니다. - s3Key: {}", s3Key, e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private void register(String s3Key, Path path, long size) {
+        Map<String, CachedFile> evicted = new LinkedHashMap<>();
+        synchronized (this) {
+            CachedFile previous = cachedFiles.put(s3Key, new CachedFile(path, size));
+            if (previous != null) {
+                currentSize -= previous.size(); // 같은 키를 동시에 받은 경우. 파일은 같은 이름으로 바뀌었다.
+            }
+            currentSize += size;
+
+            Iterator<Map.Entry<String, CachedFile>> eldest = cachedFiles.entrySet().iterator();
+            while (currentSize > properties.maxSize().toBytes() && eldest.hasNext()) {
+                Map.Entry<String, CachedFile> entry = eldest.next();
+                if (entry.getKey().equals(s3Key)) {
+                    continue;
+                }
+                eldest.remove();
+                currentSize -= entry.getValue().size();
+                evicted.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        evicted.values().forEach(cachedFile -> deleteQuietly(cachedFile.path()));
+        evictions.increment(evicted.size());
+    }
+
+    /**
+     * 캐시가 만든 파일(S3 키의 MD5 이름과 받다 만 임시 파일)만 지운다. 디렉터리를 다른 용도와 같이 써도 다른 파일은 건드리지 않는다.
+     */
+    private void clearCacheFiles() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        DirectoryStream.Filter<Path> cacheFiles = path ->
+                CACHE_FILE_NAME.matcher(path.getFileName().toString()).matches() && Files.isRegularFile(path);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, cacheFiles)) {
+            files.forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("디스크 캐시 디렉터리를 비우지 못했습니다: {}", directory, e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("디스크 캐시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private record CachedFile(Path path, long size) {}
+
+    /**
+     * 읽은 바이트를 임시 파일에도 쓰는 스트림. 끝까지 읽으면 캐시에 넣고, 그 전에 닫히면 임시 파일을 지운다.
+     */
+    private class FillingInputStream extends FilterInputStream {
+
+        private final String s3Key;
+        private final long fileSize;
+        private final Path tempFile;
+        private OutputStream tempOutput; // 캐시에 넣었거나 포기했으면 null
+        private long written;
+
+        FillingInputStream(InputStream source, String s3Key, long fileSize, Path tempFile) throws IOException {
+            super(source);
+            this.s3Key = s3Key;
+            this.fileSize = fileSize;
+            this.tempFile = tempFile;
+            this.tempOutput = Files.newOutputStream(tempFile);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read == -1) {
+                finish();
+            } else {
+                write(new byte[] {(byte) read}, 0, 1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read == -1) {
+                finish();
+            } else {
+                write(buffer, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            abandon(); // 건너뛴 부분은 임시 파일에 쓸 수 없다.
+            return super.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                abandon();
+            }
+        }
+
+        private void write(byte[] buffer, int offset, int length) {
+            if (tempOutput == null) {
+                return;
+            }
+            try {
+                tempOutput.write(buffer, offset, length);
+                written += length;
+            } catch (IOException e) {
+                log.warn("디스크 캐시 임시 파일에 쓰지 못해 캐시하지 않고 보냅니다. - s3Key: {}", s3Key, e);
+                abandon();
+            }
+        }
+
+        private void finish() {
+            if (tempOutput == null) {
+                return;
+            }
+            if (closeTempOutput()) {
+                completeFill(s3Key, fileSize, tempFile, written);
+            } else {
+                deleteQuietly(tempFile);
+            }
+        }
+
+        private void abandon() {
+            if (tempOutput == null) {
+                return;
+            }
+            closeTempOutput();
+            deleteQuietly(tempFile);
+        }
+
+        private boolean closeTempOutput() {
+            OutputStream output = tempOutput;
+            tempOutput = null;
+            try {
+                output.close();
+                return true;
+            } catch (IOException e) {
+                log.warn("디스크 캐시 임시 파일을 닫지 못했습니다: {}", tempFile, e);
+                return false;
+            }
+        }
+    }
+}
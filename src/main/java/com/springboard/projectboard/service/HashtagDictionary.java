@@ -0,0 +1,190 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.dto.HashtagDto;
+import com.springboard.projectboard.dto.HashtagUsageDto;
+import com.springboard.projectboard.dto.event.ArticleHashtagChangeEvent;
+import com.springboard.projectboard.repository.HashtagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 해시태그 사전. 해시태그 이름별 ID 와 사용 게시글 수를 메모리에 들고 있는다.
+ * 처음 조회할 때 DB 에서 한 번 읽어서 만들고, 이후에는 게시글 해시태그 변경 이벤트(커밋 이후)로 사용 수만 갱신한다.
+ * 사용 게시글이 없는 해시태그는 사전에서 빠진다.
+ * 자동완성 색인은 사전이 바뀌면 작업 스레드에서 새로 만들어 바꿔 끼우고, 그때까지는 이전 색인으로 답한다.
+ */
+@Slf4j
+@Component
+public class HashtagDictionary {
+
+    public static final Comparator<HashtagUsageDto> POPULARITY_ORDER = Comparator
+            .comparing(HashtagUsageDto::articleCount, Comparator.reverseOrder())
+            .thenComparing(HashtagUsageDto::hashtagName);
+
+    private final HashtagRepository hashtagRepository;
+    private final Executor suggestIndexExecutor;
+
+    private final Object lock = new Object();
+    private volatile NavigableMap<String, HashtagUsageDto> entries; // null 이면 아직 읽지 않음
+    private volatile HashtagSuggestIndex suggestIndex; // null 이면 다음 자동완성 조회 때 만든다
+    private final AtomicBoolean suggestIndexRebuildPending = new AtomicBoolean();
+
+    @Autowired
+    public HashtagDictionary(HashtagRepository hashtagRepository) {
+        this(hashtagRepository, Executors.newSingleThreadExecutor(new CustomizableThreadFactory("hashtag-suggest-index-")));
+    }
+
+    HashtagDictionary(HashtagRepository hashtagRepository, Executor suggestIndexExecutor) {
+        this.hashtagRepository = hashtagRepository;
+        this.suggestIndexExecutor = suggestIndexExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (suggestIndexExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * 모든 해시태그 이름을 많이 쓰인 순서로 반환한다.
+     */
+    public List<String> getHashtagNames() {
+        return entries().values().stream()
+                .sorted(POPULARITY_ORDER)
+                .map(HashtagUsageDto::hashtagName)
+                .toList();
+    }
+
+    public List<HashtagUsageDto> getPopularHashtags(int limit) {
+        return entries().values().stream()
+                .sorted(POPULARITY_ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 이름이 {@code prefix} 로 시작하는 해시태그를 많이 쓰인 순서로 반환한다.
+     * 자동완성처럼 자주 불리는 용도라서 미리 만든 {@link HashtagSuggestIndex} 로 답하고, 사전이 바뀐 직후에는 잠시 이전 사용 수가 보일 수 있다.
+     */
+    public List<HashtagUsageDto> findByPrefix(String prefix, int limit) {
+        return suggestIndex().suggest(prefix, limit);
+    }
+
+    public Optional<HashtagUsageDto> find(String hashtagName) {
+        return Optional.ofNullable(entries().get(hashtagName));
+    }
+
+    /**
+     * 사전을 버린다. 다음 조회 때 DB 에서 다시 읽는다.
+     */
+    public void invalidate() {
+        synchronized (lock) {
+            entries = null;
+            suggestIndex = null;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleHashtagsChanged(ArticleHashtagChangeEvent event) {
+        synchronized (lock) {
+            NavigableMap<String, HashtagUsageDto> current = entries;
+            if (current == null) {
+                return; // 아직 읽지 않았으면, 나중에 읽을 때 최신 상태가 반영된다.
+            }
+
+            for (HashtagDto hashtag : event.addedHashtags()) {
+                current.merge(
+                        hashtag.hashtagName(),
+                        HashtagUsageDto.of(hashtag.id(), hashtag.hashtagName(), 1L),
+                        (usage, added) -> usage.withArticleCount(usage.articleCount() + 1)
+                );
+            }
+            for (HashtagDto hashtag : event.removedHashtags()) {
+                current.computeIfPresent(
+                        hashtag.hashtagName(),
+                        (name, usage) -> usage.articleCount() <= 1 ? null : usage.withArticleCount(usage.articleCount() - 1)
+                );
+            }
+        }
+        scheduleSuggestIndexRebuild();
+    }
+
+    /**
+     * 자동완성 색인을 작업 스레드에서 다시 만든다. 이미 예약되어 있으면, 그 사이 들어온 변경까지 한 번에 반영된다.
+     */
+    private void scheduleSuggestIndexRebuild() {
+        if (!suggestIndexRebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            suggestIndexExecutor.execute(this::rebuildSuggestIndex);
+        } catch (RejectedExecutionException e) {
+            suggestIndexRebuildPending.set(false); // 종료 중
+            log.warn("해시태그 자동완성 색인을 다시 만들지 못했습니다.", e);
+        }
+    }
+
+    private void rebuildSuggestIndex() {
+        suggestIndexRebuildPending.set(false); // 만드는 도중에 바뀌면 다시 예약되도록 먼저 푼다.
+        NavigableMap<String, HashtagUsageDto> current = entries;
+        if (current == null) {
+            return; // 사전을 버렸으면, 다음 조회 때 새로 만든다.
+        }
+
+        HashtagSuggestIndex rebuilt = HashtagSuggestIndex.of(current.values());
+        synchronized (lock) {
+            if (entries == current) {
+                suggestIndex = rebuilt;
+            }
+        }
+    }
+
+    private HashtagSuggestIndex suggestIndex() {
+        HashtagSuggestIndex current = suggestIndex;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (lock) {
+            if (suggestIndex == null) {
+                suggestIndex = HashtagSuggestIndex.of(entries().values());
+            }
+            return suggestIndex;
+        }
+    }
+
+    private NavigableMap<String, HashtagUsageDto> entries() {
+        NavigableMap<String, HashtagUsageDto> current = entries;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (lock) {
+            if (entries == null) {
+                NavigableMap<String, HashtagUsageDto> loaded = new ConcurrentSkipListMap<>();
+                hashtagRepository.findAllHashtagUsages().stream()
+                        .filter(usage -> usage.articleCount() > 0)
+                        .forEach(usage -> loaded.put(usage.hashtagName(), usage));
+                entries = loaded;
+                log.info("해시태그 사전을 만들었습니다. - size: {}", loaded.size());
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.springboard.projectboard.service;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 본문에서 해시태그 이름을 뽑아낸다.
+ * 해시태그는 {@code #} 바로 뒤에 이어지는 영문/숫자/밑줄({@code \w})과 한글 음절({@code 가-힣})이다.
+ * 게시글을 저장/수정할 때마다 최대 10k 글자 본문을 훑으므로, 정규식 대신 한 번 훑는 스캐너로 처리한다.
+ */
+public final class HashtagExtractor {
+
+    private static final Pattern HASHTAG_PATTERN = Pattern.compile("#([\\w가-힣]+)");
+
+    private HashtagExtractor() {}
+
+    /**
+     * 본문에 있는 해시태그 이름들을 중복 없이 반환한다. ({@code #} 제외)
+     */
+    public static Set<String> extract(String content) {
+        if (content == null) {
+            return Set.of();
+        }
+
+        Set<String> hashtagNames = null;
+        int length = content.length();
+        int hashIndex = content.indexOf('#');
+        while (hashIndex >= 0) {
+            int start = hashIndex + 1;
+            int end = start;
+            while (end < length && isHashtagChar(content.charAt(end))) {
+                end++;
+            }
+
+            if (end > start) {
+                if (hashtagNames == null) {
+                    hashtagNames = new HashSet<>();
+                }
+                hashtagNames.add(content.substring(start, end));
+            }
+            hashIndex = content.indexOf('#', end);
+        }
+
+        return hashtagNames == null ? Set.of() : Collections.unmodifiableSet(hashtagNames);
+    }
+
+    /**
+     * {@link #extract(String)} 와 같은 결과를 미리 컴파일한 정규식으로 구한다. 규칙을 바꿀 때 비교 기준으로 쓴다.
+     */
+    public static Set<String> extractByPattern(String content) {
+        if (content == null) {
+            return Set.of();
+        }
+
+        Matcher matcher = HASHTAG_PATTERN.matcher(content);
+        Set<String> hashtagNames = new HashSet<>();
+        while (matcher.find()) {
+            hashtagNames.add(matcher.group(1));
+        }
+
+        return Collections.unmodifiableSet(hashtagNames);
+    }
+
+    // 정규식 \w (기본 모드) 는 [a-zA-Z_0-9] 와 같다.
+    private static boolean isHashtagChar(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '_'
+                || (c >= '가' && c <= '힣');
+    }
+}
@@ -0,0 +1,34 @@
+package com.springboard.projectboard.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글과 연결되지 않은 해시태그를 주기적으로 지운다.
+ * {@code board.hashtag.defer-orphan-cleanup=true} 일 때만 등록되며, 이때 글 수정/삭제 요청은 해시태그 정리를 하지 않는다.
+ * 실행 간격은 {@code board.hashtag.orphan-sweep-interval-ms} (기본 10분)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.hashtag.defer-orphan-cleanup", havingValue = "true")
+@Component
+public class HashtagOrphanSweeper {
+
+    private final HashtagService hashtagService;
+
+    @Transactional
+    @Scheduled(
+            initialDelayString = "${board.hashtag.orphan-sweep-interval-ms:600000}",
+            fixedDelayString = "${board.hashtag.orphan-sweep-interval-ms:600000}"
+    )
+    public void sweep() {
+        int deleted = hashtagService.deleteAllHashtagsWithoutArticles();
+        if (deleted > 0) {
+            log.info("게시글과 연결되지 않은 해시태그를 정리했습니다. - count: {}", deleted);
+        }
+    }
+}
@@ -1,47 +1,76 @@
 package com.springboard.projectboard.service;
 
+import com.springboard.projectboard.config.HashtagProperties;
 import com.springboard.projectboard.domain.Hashtag;
 import com.springboard.projectboard.repository.HashtagRepository;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 public class HashtagService {
+    private static final String DEFAULT_AUDITOR = "system";
+
     private final HashtagRepository hashtagRepository;
+    private final AuditorAware<String> auditorAware;
+    private final HashtagProperties hashtagProperties;
 
-    public HashtagService(HashtagRepository hashtagRepository) {
+    public HashtagService(HashtagRepository hashtagRepository, AuditorAware<String> auditorAware, HashtagProperties hashtagProperties) {
         this.hashtagRepository = hashtagRepository;
+        this.auditorAware = auditorAware;
+        this.hashtagProperties = hashtagProperties;
     }
 
     public Set<String> parseHashtagNames(String content) {
-        if (content == null) {
-            return Set.of();
-        }
-
-        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
-        Matcher matcher = pattern.matcher(content.strip());
-        Set<String> result = new HashSet<>();
-
-        while (matcher.find()) {
-            result.add(matcher.group().replace("#", ""));
-        }
-
-        return Set.copyOf(result);
+        return HashtagExtractor.extract(content);
     }
 
     public Set<Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
         return new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
     }
 
-    public void deleteHashtagWithoutArticles(Long hashtagId) {
-        Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
+    /**
+     * 이름에 해당하는 해시태그를 모두 찾아서 반환한다. 없는 해시태그는 한 번의 배치 insert 로 먼저 만든다.
+     * 다른 트랜잭션이 같은 해시태그를 먼저 커밋했으면 insert 는 아무것도 쓰지 않으므로, 새로 만든 이름은 잠그면서 다시 읽어
+     * 트랜잭션 스냅샷에 없는 행도 가져온다.
+     */
+    public Set<Hashtag> findOrCreateHashtags(Set<String> hashtagNames) {
+        Set<Hashtag> hashtags = findHashtagsByNames(hashtagNames);
+        if (hashtags.size() == hashtagNames.size()) {
+            return hashtags;
+        }
+
+        Set<String> existingHashtagNames = hashtags.stream()
+                .map(Hashtag::getHashtagName)
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> newHashtagNames = hashtagNames.stream()
+                .filter(hashtagName -> !existingHashtagNames.contains(hashtagName))
+                .collect(Collectors.toUnmodifiableSet());
+
+        hashtagRepository.insertHashtagNamesIfAbsent(newHashtagNames, auditorAware.getCurrentAuditor().orElse(DEFAULT_AUDITOR));
+        hashtags.addAll(hashtagRepository.findForShareByHashtagNameIn(newHashtagNames));
+
+        return hashtags;
+    }
 
-        if (hashtag.getArticles().isEmpty()) {
-            hashtagRepository.delete(hashtag);
+    /**
+     * 게시글과 연결이 끊긴 해시태그를 한 번에 지운다.
+     * 백그라운드 정리({@code board.hashtag.defer-orphan-cleanup=true})를 켜면 여기서는 아무것도 하지 않고 {@link HashtagOrphanSweeper} 에 맡긴다.
+     * 호출 전에 게시글-해시태그 연결 변경이 flush 되어 있어야 한다.
+     */
+    public void deleteHashtagsWithoutArticles(Collection<Long> hashtagIds) {
+        if (hashtagProperties.deferOrphanCleanup() || hashtagIds.isEmpty()) {
+            return;
         }
+
+        hashtagRepository.deleteHashtagsWithoutArticles(hashtagIds);
+    }
+
+    public int deleteAllHashtagsWithoutArticles() {
+        return hashtagRepository.deleteAllHashtagsWithoutArticles();
     }
 }
\ No newline at end of file
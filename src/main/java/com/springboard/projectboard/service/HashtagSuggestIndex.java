@@ -0,0 +1,141 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.dto.HashtagUsageDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 해시태그 자동완성용 읽기 전용 색인.
+ * 이름순으로 정렬한 배열에서 이분 탐색으로 접두어 구간을 찾고, 그 구간에서 사용 게시글이 많은 순서로 고른다.
+ * 구간이 {@value #WIDE_RANGE_THRESHOLD} 개보다 넓은 접두어(빈 접두어, 짧은 접두어)는 만들 때 인기순 상위 {@value #PRECOMPUTED_LIMIT} 개를
+ * 미리 골라 둔다. 그래서 {@code limit} 이 {@value #PRECOMPUTED_LIMIT} 이하이면, 한 번 조회에 보는 항목 수는 전체 크기와 상관없이
+ * {@value #WIDE_RANGE_THRESHOLD} 개 이하다.
+ */
+public final class HashtagSuggestIndex {
+
+    private static final int WIDE_RANGE_THRESHOLD = 1024;
+    private static final int PRECOMPUTED_LIMIT = 20; // 자동완성 한 번에 보여 주는 최대 개수 (HashtagController)
+
+    private final HashtagUsageDto[] entries; // 이름순
+    private final String[] names;
+    private final Map<String, List<HashtagUsageDto>> topByWidePrefix = new HashMap<>(); // 넓은 접두어별 인기순 상위 항목
+
+    private HashtagSuggestIndex(HashtagUsageDto[] entries) {
+        this.entries = entries;
+        this.names = Arrays.stream(entries).map(HashtagUsageDto::hashtagName).toArray(String[]::new);
+        collectWidePrefixes("", 0, entries.length);
+    }
+
+    public static HashtagSuggestIndex of(Collection<HashtagUsageDto> usages) {
+        HashtagUsageDto[] entries = usages.toArray(HashtagUsageDto[]::new);
+        Arrays.sort(entries, Comparator.comparing(HashtagUsageDto::hashtagName));
+        return new HashtagSuggestIndex(entries);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * 이름이 {@code prefix} 로 시작하는 해시태그를 사용 게시글이 많은 순서로 최대 {@code limit} 개 반환한다.
+     */
+    public List<HashtagUsageDto> suggest(String prefix, int limit) {
+        if (limit <= 0 || entries.length == 0) {
+            return List.of();
+        }
+
+        String searchPrefix = prefix == null ? "" : prefix;
+        int from = lowerBound(searchPrefix);
+        int to = prefixEnd(searchPrefix, from);
+        if (from == to) {
+            return List.of();
+        }
+
+        List<HashtagUsageDto> precomputed = topByWidePrefix.get(searchPrefix);
+        if (precomputed != null && limit <= PRECOMPUTED_LIMIT) {
+            return precomputed.subList(0, Math.min(limit, precomputed.size()));
+        }
+        return topOfRange(from, to, limit);
+    }
+
+    /**
+     * 구간 [from, to) 가 넓으면 상위 항목을 골라 두고, 다음 글자별로 나눈 하위 구간에 대해 반복한다.
+     * 넓은 접두어의 하위 구간은 모두 겹치지 않으므로, 접두어 길이마다 전체를 한 번 훑는 정도로 끝난다.
+     */
+    private void collectWidePrefixes(String prefix, int from, int to) {
+        if (to - from <= WIDE_RANGE_THRESHOLD) {
+            return;
+        }
+        topByWidePrefix.put(prefix, topOfRange(from, to, PRECOMPUTED_LIMIT));
+
+        int depth = prefix.length();
+        int groupStart = from;
+        while (groupStart < to && names[groupStart].length() == depth) {
+            groupStart++; // 접두어와 같은 이름은 구간 맨 앞에 온다.
+        }
+        while (groupStart < to) {
+            char next = names[groupStart].charAt(depth);
+            int groupEnd = groupStart + 1;
+            while (groupEnd < to && names[groupEnd].charAt(depth) == next) {
+                groupEnd++;
+            }
+            collectWidePrefixes(prefix + next, groupStart, groupEnd);
+            groupStart = groupEnd;
+        }
+    }
+
+    /**
+     * [from, to) 구간을 훑으며 크기 {@code limit} 의 힙으로 상위 항목만 남긴다.
+     */
+    private List<HashtagUsageDto> topOfRange(int from, int to, int limit) {
+        PriorityQueue<HashtagUsageDto> heap = new PriorityQueue<>(limit + 1, HashtagDictionary.POPULARITY_ORDER.reversed());
+        for (int i = from; i < to; i++) {
+            heap.offer(entries[i]);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<HashtagUsageDto> result = new ArrayList<>(heap);
+        result.sort(HashtagDictionary.POPULARITY_ORDER);
+        return List.copyOf(result);
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = names.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (names[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 접두어가 같은 이름은 정렬된 배열에서 연속하므로, {@code from} 이후 처음으로 접두어가 다른 위치를 이분 탐색한다.
+     */
+    private int prefixEnd(String prefix, int from) {
+        int low = from;
+        int high = names.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (names[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,65 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.config.FileDownloadProperties;
+import com.springboard.projectboard.domain.ArticleFile;
+import com.springboard.projectboard.domain.constant.FileDownloadMode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 첨부파일을 앱 서버가 중계하지 않고 S3 에서 바로 받도록, 미리 서명한 다운로드 URL 을 만든다.
+ * {@code board.file.download.mode=redirect} 일 때만 URL 을 돌려주고, 만료가 가까워지기 전까지는 파일별로 같은 URL 을 다시 쓴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PresignedDownloadUrlService {
+
+    private final S3FileUploadService s3FileUploadService;
+    private final FileDownloadProperties downloadProperties;
+
+    private final Map<Long, CachedUrl> urlCache = new ConcurrentHashMap<>();
+
+    /**
+     * @return 리다이렉트할 서명 URL. 앱 서버가 중계하는 방식이면 비어 있다.
+     */
+    public Optional<String> getDownloadUrl(ArticleFile articleFile, String contentDisposition) {
+        if (downloadProperties.mode() != FileDownloadMode.REDIRECT) {
+            return Optional.empty();
+        }
+
+        Instant now = Instant.now();
+        CachedUrl cached = urlCache.get(articleFile.getId());
+        if (cached != null && cached.isUsableAt(now)) {
+            return Optional.of(cached.url());
+        }
+
+        Instant expiresAt = now.plus(downloadProperties.presignedUrlTtl());
+        String url = s3FileUploadService.createPresignedDownloadUrl(articleFile.getS3Key(), contentDisposition, expiresAt);
+        putUrl(articleFile.getId(), new CachedUrl(url, expiresAt.minus(downloadProperties.presignedUrlRenewBefore())), now);
+        return Optional.of(url);
+    }
+
+    private void putUrl(Long articleFileId, CachedUrl cachedUrl, Instant now) {
+        if (urlCache.size() >= downloadProperties.maxCacheEntries()) {
+            urlCache.values().removeIf(entry -> !entry.isUsableAt(now));
+            if (urlCache.size() >= downloadProperties.maxCacheEntries()) {
+                log.debug("서명 URL 캐시가 가득 차서 비웁니다. - size: {}", urlCache.size());
+                urlCache.clear();
+            }
+        }
+        urlCache.put(articleFileId, cachedUrl);
+    }
+
+    private record CachedUrl(String url, Instant renewAt) {
+        boolean isUsableAt(Instant now) {
+            return now.isBefore(renewAt);
+        }
+    }
+}
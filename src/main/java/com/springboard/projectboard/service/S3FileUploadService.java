@@ -1,15 +1,24 @@
 package com.springboard.projectboard.service;
 
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Date;
 import java.util.UUID;
 
 @Slf4j
@@ -18,24 +27,31 @@ import java.util.UUID;
 public class S3FileUploadService {
 
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
-    public String uploadFile(MultipartFile file, Long articleId, int displayOrder) {
-        String originalFilename = file.getOriginalFilename();
-        String s3Key = generateS3Key(articleId, displayOrder, originalFilename);
+    /**
+     * 로컬에 받아 둔 파일을 {@code s3Key} 로 올리고, 끝날 때까지 기다린다.
+     * 파일에서 읽으므로 멀티파트 기준 이상이면 TransferManager 가 파트를 병렬로 보낸다.
+     * 실패하면 올리다 만 멀티파트 업로드를 취소하고 예외를 던진다.
+     */
+    public void uploadFile(String s3Key, Path file, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        PutObjectRequest request = new PutObjectRequest(bucketName, s3Key, file.toFile()).withMetadata(metadata);
 
+        Upload upload = transferManager.upload(request);
         try {
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(file.getSize());
-            metadata.setContentType(file.getContentType());
-
-            amazonS3.putObject(bucketName, s3Key, file.getInputStream(), metadata);
-            return amazonS3.getUrl(bucketName, s3Key).toString();
-        } catch (IOException e) {
-            log.error("파일 업로드 실패: {}", originalFilename, e);
+            upload.waitForCompletion();
+        } catch (AmazonClientException e) {
+            log.warn("파일 업로드 실패: {}", s3Key, e);
             throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            upload.abort();
+            throw new RuntimeException("파일 업로드가 중단되었습니다.", e);
         }
     }
 
@@ -56,15 +72,56 @@ public class S3FileUploadService {
         }
     }
 
-    private String generateS3Key(Long articleId, int displayOrder, String originalFilename) {
+    /**
+     * {@code start} 부터 {@code end} 까지(양 끝 포함)만 S3 에서 받는다. 이어받기나 탐색 요청이 객체 전체를 다시 받지 않도록 한다.
+     * 다 읽기 전에 닫으면 남은 바이트를 버리지 않고 연결을 끊는다.
+     */
+    public InputStream downloadFile(String s3Key, long start, long end) {
+        try {
+            GetObjectRequest request = new GetObjectRequest(bucketName, s3Key).withRange(start, end);
+            return amazonS3.getObject(request).getObjectContent();
+        } catch (Exception e) {
+            log.error("파일 다운로드 실패: {} ({}-{})", s3Key, start, end, e);
+            throw new RuntimeException("파일 다운로드에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * {@code expiresAt} 까지 S3 에서 바로 받을 수 있는 서명 URL 을 만든다. 받을 때의 {@code Content-Disposition} 도 서명에 함께 넣는다.
+     */
+    public String createPresignedDownloadUrl(String s3Key, String contentDisposition, Instant expiresAt) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, s3Key, HttpMethod.GET)
+                .withExpiration(Date.from(expiresAt))
+                .withResponseHeaders(new ResponseHeaderOverrides().withContentDisposition(contentDisposition));
+        return amazonS3.generatePresignedUrl(request).toString();
+    }
+
+    /**
+     * 업로드 전에 키와 URL 을 먼저 정해 두고 첨부파일 정보를 저장할 수 있도록 분리한다.
+     */
+    public String createS3Key(Long articleId, int displayOrder, String originalFilename) {
         String extension = getFileExtension(originalFilename);
         String uuid = UUID.randomUUID().toString();
         return String.format("articles/%d/%d_%s.%s", articleId, displayOrder, uuid, extension);
     }
 
+    /**
+     * 원본 옆에 두는 썸네일의 키. 예) {@code articles/1/1_uuid.png} → {@code articles/1/1_uuid_thumb.jpg}
+     */
+    public String createThumbnailKey(String s3Key) {
+        int lastDotIndex = s3Key.lastIndexOf('.');
+        int lastSlashIndex = s3Key.lastIndexOf('/');
+        String baseKey = lastDotIndex > lastSlashIndex ? s3Key.substring(0, lastDotIndex) : s3Key;
+        return baseKey + "_thumb.jpg";
+    }
+
+    public String getUrl(String s3Key) {
+        return amazonS3.getUrl(bucketName, s3Key).toString();
+    }
+
     private String getFileExtension(String filename) {
         if (filename == null) return "";
         int lastDotIndex = filename.lastIndexOf('.');
         return lastDotIndex == -1 ? "" : filename.substring(lastDotIndex + 1);
     }
-}
\ No newline at end of file
+}
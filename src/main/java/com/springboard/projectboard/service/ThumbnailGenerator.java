@@ -0,0 +1,241 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.config.ThumbnailProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * 첨부 이미지로 목록/상세 화면에 보여 줄 JPEG 썸네일을 만든다.
+ * 원본 비율을 유지한 채 {@code board.file.thumbnail.width} x {@code height} 안에 맞추고, 투명한 부분은 흰 배경으로 채운다.
+ * 휴대폰 사진처럼 JPEG 의 EXIF Orientation 이 있으면, 그 방향으로 돌린 뒤 줄인다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ThumbnailGenerator {
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int ORIENTATION_NORMAL = 1;
+
+    private final ThumbnailProperties thumbnailProperties;
+
+    /**
+     * {@code source} 옆에 썸네일 파일을 만든다. 읽을 수 없는 형식이거나 너무 큰 이미지면 비어 있다.
+     * 만든 파일은 호출한 쪽이 지운다.
+     */
+    public Optional<Path> createThumbnail(Path source) throws IOException {
+        BufferedImage image = readImage(source);
+        if (image == null) {
+            return Optional.empty();
+        }
+
+        BufferedImage thumbnail = resize(image);
+        Path thumbnailFile = Files.createTempFile(source.toAbsolutePath().getParent(), "thumb-", ".jpg");
+        try {
+            writeJpeg(thumbnail, thumbnailFile);
+            return Optional.of(thumbnailFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(thumbnailFile);
+            throw e;
+        }
+    }
+
+    /**
+     * 디코딩하기 전에 크기부터 읽어서, 너무 큰 이미지는 메모리에 올리지 않는다.
+     * 썸네일보다 훨씬 큰 이미지는 목표 크기의 두 배 이상이 남는 만큼만 건너뛰며 읽어서, 원본 해상도로 디코딩하지 않는다.
+     */
+    private BufferedImage readImage(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                long pixels = (long) width * height;
+                if (pixels > thumbnailProperties.maxSourcePixels()) {
+                    log.info("이미지가 너무 커서 썸네일을 만들지 않습니다. - source: {}, pixels: {}", source, pixels);
+                    return null;
+                }
+
+                // 건너뛰며 읽으면 계단 현상이 생기므로, 남은 두 배 이상을 resize 에서 부드럽게 줄인다.
+                // 90도 돌려야 하는 사진은 돌린 뒤의 가로/세로로 배율을 구한다.
+                int orientation = readOrientation(reader);
+                boolean transposed = orientation >= 5;
+                double scale = transposed ? fitScale(height, width) : fitScale(width, height);
+                int subsampling = Math.max(1, (int) (1 / (2 * scale)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return orient(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG 메타데이터의 APP1(EXIF) 세그먼트에서 IFD0 의 Orientation(1~8) 을 읽는다. 없거나 읽을 수 없으면 1(그대로) 이다.
+     */
+    private int readOrientation(ImageReader reader) throws IOException {
+        IIOMetadata metadata = reader.getImageMetadata(0);
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+            return ORIENTATION_NORMAL;
+        }
+
+        IIOMetadataNode tree = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+        NodeList markers = tree.getElementsByTagName("unknown");
+        for (int i = 0; i < markers.getLength(); i++) {
+            IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+            if (Integer.parseInt(marker.getAttribute("MarkerTag")) == APP1_MARKER
+                    && marker.getUserObject() instanceof byte[] data
+                    && isExif(data)) {
+                return readOrientation(data);
+            }
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    private boolean isExif(byte[] data) {
+        return data.length > EXIF_HEADER.length
+                && Arrays.equals(data, 0, EXIF_HEADER.length, EXIF_HEADER, 0, EXIF_HEADER.length);
+    }
+
+    private int readOrientation(byte[] exif) {
+        // TIFF 헤더: 바이트 순서(II/MM), 42, IFD0 위치. 위치는 모두 TIFF 헤더 시작 기준이다.
+        ByteBuffer tiff = ByteBuffer.wrap(exif, EXIF_HEADER.length, exif.length - EXIF_HEADER.length).slice();
+        try {
+            tiff.order(tiff.getShort(0) == 0x4949 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            int ifdOffset = tiff.getInt(4);
+            int entries = Short.toUnsignedInt(tiff.getShort(ifdOffset));
+            for (int i = 0; i < entries; i++) {
+                int entry = ifdOffset + 2 + i * 12;
+                if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                    int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                    return orientation >= 1 && orientation <= 8 ? orientation : ORIENTATION_NORMAL;
+                }
+            }
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            log.debug("EXIF 를 읽을 수 없어서 방향을 무시합니다.", e);
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    /**
+     * EXIF Orientation 대로 뒤집거나 돌린다. 5~8 은 90도 돌리는 값이라 가로와 세로가 바뀐다.
+     */
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+
+        boolean transposed = orientation >= 5;
+        BufferedImage target = new BufferedImage(
+                transposed ? height : width, transposed ? width : height, BufferedImage.TYPE_INT_RGB
+        );
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 한 번에 크게 줄이면 계단 현상이 생기므로, 목표 크기의 두 배가 될 때까지 절반씩 줄인 뒤 마지막에 맞춘다.
+     */
+    private BufferedImage resize(BufferedImage image) {
+        double scale = fitScale(image.getWidth(), image.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= targetWidth * 2 && current.getHeight() / 2 >= targetHeight * 2) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    /**
+     * 비율을 유지한 채 썸네일 크기 안에 맞추는 배율. 작은 이미지는 키우지 않으므로 1 을 넘지 않는다.
+     */
+    private double fitScale(int width, int height) {
+        return Math.min(
+                1.0,
+                Math.min((double) thumbnailProperties.width() / width, (double) thumbnailProperties.height() / height)
+        );
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(thumbnailProperties.quality());
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.springboard.projectboard.service.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * {@link ArticleSearchTokenizer} 를 Lucene 에서 쓰기 위한 Analyzer.
+ * 게시글 본문은 길어야 10k 글자이므로, 입력 전체를 읽은 뒤 한 번에 토큰으로 나눈다.
+ * 색인용은 {@link ArticleSearchTokenizer#tokenizeForIndex}, 검색어용은 {@link ArticleSearchTokenizer#tokenize} 규칙을 쓴다.
+ */
+class ArticleSearchAnalyzer extends Analyzer {
+
+    private final boolean forIndex;
+
+    private ArticleSearchAnalyzer(boolean forIndex) {
+        this.forIndex = forIndex;
+    }
+
+    static ArticleSearchAnalyzer forIndex() {
+        return new ArticleSearchAnalyzer(true);
+    }
+
+    static ArticleSearchAnalyzer forQuery() {
+        return new ArticleSearchAnalyzer(false);
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        return new TokenStreamComponents(new ArticleSearchLuceneTokenizer(forIndex));
+    }
+
+
+    private static final class ArticleSearchLuceneTokenizer extends Tokenizer {
+
+        private final CharTermAttribute termAttribute = addAttribute(CharTermAttribute.class);
+        private final PositionIncrementAttribute positionIncrementAttribute = addAttribute(PositionIncrementAttribute.class);
+        private final StringBuilder text = new StringBuilder();
+        private final char[] readBuffer = new char[1024];
+        private final List<String> tokens = new ArrayList<>();
+        private final BitSet stackedTokens = new BitSet();
+        private final boolean forIndex;
+        private int nextToken;
+
+        private ArticleSearchLuceneTokenizer(boolean forIndex) {
+            this.forIndex = forIndex;
+        }
+
+        @Override
+        public boolean incrementToken() {
+            clearAttributes();
+            if (nextToken >= tokens.size()) {
+                return false;
+            }
+
+            termAttribute.append(tokens.get(nextToken));
+            positionIncrementAttribute.setPositionIncrement(stackedTokens.get(nextToken) ? 0 : 1);
+            nextToken++;
+            return true;
+        }
+
+        @Override
+        public void reset() throws IOException {
+            super.reset();
+            text.setLength(0);
+            int read;
+            while ((read = input.read(readBuffer)) != -1) {
+                text.append(readBuffer, 0, read);
+            }
+            clearTokens();
+            if (forIndex) {
+                ArticleSearchTokenizer.tokenizeForIndex(text.toString(), (token, stacked) -> {
+                    stackedTokens.set(tokens.size(), stacked);
+                    tokens.add(token);
+                });
+            } else {
+                ArticleSearchTokenizer.tokenize(text.toString(), tokens::add);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            clearTokens();
+        }
+
+        private void clearTokens() {
+            tokens.clear();
+            stackedTokens.clear();
+            nextToken = 0;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.springboard.projectboard.service.search;
+
+import com.springboard.projectboard.domain.Article;
+
+/**
+ * 검색 엔진에 색인할 게시글 정보
+ */
+public record ArticleSearchDocument(
+        Long id,
+        String title,
+        String content
+) {
+
+    public static ArticleSearchDocument of(Long id, String title, String content) {
+        return new ArticleSearchDocument(id, title, content);
+    }
+
+    public static ArticleSearchDocument from(Article entity) {
+        return new ArticleSearchDocument(entity.getId(), entity.getTitle(), entity.getContent());
+    }
+}
@@ -0,0 +1,48 @@
+package com.springboard.projectboard.service.search;
+
+import com.springboard.projectboard.domain.constant.SearchType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+
+/**
+ * 게시글 제목/본문 검색 엔진.
+ * 구현체는 {@code board.search.engine} 설정으로 하나만 등록되고, 설정하지 않으면(기본값 {@code like}) 등록되지 않는다.
+ * 엔진이 없으면 {@code ArticleService} 가 Querydsl {@code LIKE} 조건으로 검색한다.
+ *
+ * @see MysqlFullTextArticleSearchEngine
+ * @see LuceneArticleSearchEngine
+ */
+public interface ArticleSearchEngine {
+
+    /**
+     * 이 엔진이 처리할 수 있는 검색 유형인지 확인한다.
+     * {@code false} 면 {@code ArticleService} 가 기존 Querydsl 조건으로 검색한다.
+     */
+    boolean supports(SearchType searchType);
+
+    /**
+     * 검색어와 관련도가 높은 순서로 게시글 ID 페이지를 반환한다. 정렬 조건({@link Pageable#getSort()})은 무시한다.
+     */
+    Page<Long> searchArticleIds(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    /**
+     * 게시글 변경을 직접 색인해야 하는 엔진인지 여부. DB 인덱스를 쓰는 엔진은 {@code false}.
+     */
+    default boolean requiresIndexing() {
+        return false;
+    }
+
+    default void index(ArticleSearchDocument document) {}
+
+    default void indexAll(Collection<ArticleSearchDocument> documents) {
+        documents.forEach(this::index);
+    }
+
+    default void delete(Long articleId) {}
+
+    default long indexedCount() {
+        return 0;
+    }
+}
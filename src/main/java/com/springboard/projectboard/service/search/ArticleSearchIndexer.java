@@ -0,0 +1,88 @@
+package com.springboard.projectboard.service.search;
+
+import com.springboard.projectboard.domain.Article;
+import com.springboard.projectboard.dto.event.ArticleChangeEvent;
+import com.springboard.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+/**
+ * 게시글 변경을 검색 엔진 색인에 반영한다.
+ * 롤백된 변경이 색인에 남지 않도록 트랜잭션 커밋 이후에 처리하며, 색인 실패가 글쓰기를 막지 않도록 로그만 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndexer {
+
+    private static final int REINDEX_BATCH_SIZE = 500;
+
+    private final ObjectProvider<ArticleSearchEngine> articleSearchEngineProvider;
+    private final ArticleRepository articleRepository;
+    private final EntityManager entityManager;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener
+    public void onArticleChanged(ArticleChangeEvent event) {
+        ArticleSearchEngine articleSearchEngine = articleSearchEngineProvider.getIfAvailable();
+        if (articleSearchEngine == null || !articleSearchEngine.requiresIndexing()) {
+            return;
+        }
+
+        try {
+            if (event.isDeleted()) {
+                articleSearchEngine.delete(event.articleId());
+                return;
+            }
+
+            articleRepository.findById(event.articleId())
+                    .map(ArticleSearchDocument::from)
+                    .ifPresentOrElse(
+                            articleSearchEngine::index,
+                            () -> articleSearchEngine.delete(event.articleId())
+                    );
+        } catch (RuntimeException e) {
+            log.error("게시글 검색 색인 갱신 실패 - articleId: {}", event.articleId(), e);
+        }
+    }
+
+    /**
+     * 색인이 비어 있으면(처음 켜거나 색인 디렉토리를 지운 경우) 전체 게시글로 다시 만든다.
+     * 마지막으로 읽은 ID 다음부터 묶음 단위로 읽고, 색인한 묶음은 영속성 컨텍스트에서 비워서 게시글 수와 관계없이 메모리를 일정하게 쓴다.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexIfEmpty() {
+        ArticleSearchEngine articleSearchEngine = articleSearchEngineProvider.getIfAvailable();
+        if (articleSearchEngine == null || !articleSearchEngine.requiresIndexing() || articleSearchEngine.indexedCount() > 0) {
+            return;
+        }
+
+        long indexed = 0;
+        Long lastId = null;
+        Slice<Article> slice;
+        do {
+            slice = articleRepository.findArticleSliceAfterId(lastId, REINDEX_BATCH_SIZE);
+            List<ArticleSearchDocument> documents = slice.map(ArticleSearchDocument::from).getContent();
+            articleSearchEngine.indexAll(documents);
+            indexed += documents.size();
+            if (!documents.isEmpty()) {
+                lastId = documents.get(documents.size() - 1).id();
+            }
+            entityManager.clear();
+        } while (slice.hasNext());
+
+        log.info("게시글 검색 색인을 새로 만들었습니다. - count: {}", indexed);
+    }
+}
@@ -0,0 +1,42 @@
+package com.springboard.projectboard.service.search;
+
+import java.util.List;
+
+/**
+ * 해석된 검색어.
+ * {@code requiredGroups} 의 각 그룹은 하나 이상 일치해야 하고(OR), 모든 그룹이 일치해야 한다(AND).
+ * {@code excludedTerms} 는 하나라도 일치하면 안 된다.
+ *
+ * @see ArticleSearchQueryParser
+ */
+public record ArticleSearchQuery(
+        List<List<Term>> requiredGroups,
+        List<Term> excludedTerms
+) {
+
+    public static ArticleSearchQuery of(List<List<Term>> requiredGroups, List<Term> excludedTerms) {
+        return new ArticleSearchQuery(
+                requiredGroups.stream().map(List::copyOf).toList(),
+                List.copyOf(excludedTerms)
+        );
+    }
+
+    public boolean isEmpty() {
+        return requiredGroups.isEmpty() && excludedTerms.isEmpty();
+    }
+
+
+    /**
+     * @param phrase 따옴표로 묶은 구문이면 {@code true}
+     */
+    public record Term(String text, boolean phrase) {
+
+        public static Term word(String text) {
+            return new Term(text, false);
+        }
+
+        public static Term phrase(String text) {
+            return new Term(text, true);
+        }
+    }
+}
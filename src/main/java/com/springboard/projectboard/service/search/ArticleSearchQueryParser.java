@@ -0,0 +1,84 @@
+package com.springboard.projectboard.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 검색어 문법을 해석한다.
+ * <ul>
+ *     <li>{@code 스프링 부트} : 공백으로 나눈 단어를 모두 포함 (AND)</li>
+ *     <li>{@code 자바 OR 코틀린}, {@code 자바 | 코틀린} : 둘 중 하나 이상 포함</li>
+ *     <li>{@code "스프링 부트"} : 따옴표 안의 구문을 그대로 포함</li>
+ *     <li>{@code -광고}, {@code -"광고 문의"} : 포함하지 않음</li>
+ * </ul>
+ * 문법에 맞지 않는 부분(닫히지 않은 따옴표, 앞뒤가 없는 OR 등)은 오류 대신 일반 단어처럼 너그럽게 처리한다.
+ */
+public final class ArticleSearchQueryParser {
+
+    private static final String OR_KEYWORD = "OR";
+    private static final String OR_SYMBOL = "|";
+
+    private ArticleSearchQueryParser() {}
+
+    public static ArticleSearchQuery parse(String searchKeyword) {
+        List<List<ArticleSearchQuery.Term>> requiredGroups = new ArrayList<>();
+        List<ArticleSearchQuery.Term> excludedTerms = new ArrayList<>();
+        if (searchKeyword == null || searchKeyword.isBlank()) {
+            return ArticleSearchQuery.of(requiredGroups, excludedTerms);
+        }
+
+        String text = ArticleSearchTokenizer.normalize(searchKeyword);
+        boolean orPending = false;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+
+            boolean excluded = c == '-' && i + 1 < length && !Character.isWhitespace(text.charAt(i + 1));
+            if (excluded) { i++; }
+
+            ArticleSearchQuery.Term term;
+            if (text.charAt(i) == '"') {
+                int close = text.indexOf('"', i + 1);
+                int end = close < 0 ? length : close;
+                term = ArticleSearchQuery.Term.phrase(collapseWhitespace(text.substring(i + 1, end)));
+                i = close < 0 ? length : close + 1;
+            } else {
+                int end = i;
+                while (end < length && !Character.isWhitespace(text.charAt(end))) { end++; }
+                String word = text.substring(i, end);
+                i = end;
+
+                if (!excluded && (OR_KEYWORD.equals(word) || OR_SYMBOL.equals(word))) {
+                    orPending = !requiredGroups.isEmpty();
+                    continue;
+                }
+                term = ArticleSearchQuery.Term.word(word);
+            }
+
+            if (term.text().isEmpty()) {
+                continue;
+            }
+            if (excluded) {
+                excludedTerms.add(term);
+            } else if (orPending) {
+                requiredGroups.get(requiredGroups.size() - 1).add(term);
+            } else {
+                List<ArticleSearchQuery.Term> group = new ArrayList<>();
+                group.add(term);
+                requiredGroups.add(group);
+            }
+            orPending = false;
+        }
+
+        return ArticleSearchQuery.of(requiredGroups, excludedTerms);
+    }
+
+    private static String collapseWhitespace(String text) {
+        return String.join(" ", text.strip().split("\\s+"));
+    }
+}
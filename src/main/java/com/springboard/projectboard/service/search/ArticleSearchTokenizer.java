@@ -0,0 +1,139 @@
+package com.springboard.projectboard.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 검색용 토크나이저.
+ * <ul>
+ *     <li>전각 영문/숫자/기호와 전각 공백을 반각으로 바꾸고, 영문은 소문자로 바꾼다.</li>
+ *     <li>이어진 한글 음절은 두 글자씩 겹쳐서(bigram) 자른다. 한 글자 단어는 그대로 둔다.
+ *     색인할 때는 음절 하나하나(unigram)도 bigram 과 같은 자리에 겹쳐 넣어, 한 글자 검색어로도 찾을 수 있게 한다.</li>
+ *     <li>그 밖의 글자/숫자는 구분자(공백, 기호) 사이를 한 단어로 자른다.</li>
+ * </ul>
+ * 색인과 검색어 양쪽에 같은 규칙을 적용해야 부분 일치 검색이 된다.
+ */
+public final class ArticleSearchTokenizer {
+
+    private static final char FULL_WIDTH_FIRST = '！';
+    private static final char FULL_WIDTH_LAST = '～';
+    private static final int FULL_WIDTH_OFFSET = 0xFEE0;
+    private static final char IDEOGRAPHIC_SPACE = '　';
+
+    private ArticleSearchTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        tokenize(text, tokens::add);
+        return tokens;
+    }
+
+    /**
+     * 토큰을 목록에 모으지 않고 바로 넘겨준다. (색인처럼 토큰을 한 번만 쓰는 경우)
+     */
+    public static void tokenize(String text, Consumer<String> tokenConsumer) {
+        tokenize(text, false, (token, stacked) -> tokenConsumer.accept(token));
+    }
+
+    /**
+     * 색인용 토큰을 넘겨준다. 검색어 토큰에 더해 한글 음절 unigram 을 앞 토큰과 같은 자리({@code stacked})로 넘긴다.
+     * bigram 의 자리는 {@link #tokenize(String, Consumer)} 와 같으므로, 검색어 토큰으로 만든 구문 검색이 그대로 맞는다.
+     */
+    public static void tokenizeForIndex(String text, IndexTokenConsumer tokenConsumer) {
+        tokenize(text, true, tokenConsumer);
+    }
+
+    private static void tokenize(String text, boolean forIndex, IndexTokenConsumer tokenConsumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        String normalized = normalize(text);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isHangulSyllable(c)) {
+                int end = i + 1;
+                while (end < length && isHangulSyllable(normalized.charAt(end))) { end++; }
+                emitBigrams(normalized, i, end, forIndex, tokenConsumer);
+                i = end;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = i + 1;
+                while (end < length && isWordChar(normalized.charAt(end))) { end++; }
+                tokenConsumer.accept(normalized.substring(i, end).toLowerCase(Locale.ROOT), false);
+                i = end;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * 전각 문자를 반각으로 바꾸고, 분리된 자모로 입력된 한글은 완성형으로 합친다. 대소문자는 그대로 둔다.
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        String composed = Normalizer.isNormalized(text, Normalizer.Form.NFC)
+                ? text
+                : Normalizer.normalize(text, Normalizer.Form.NFC);
+
+        char[] chars = null;
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            char folded = fold(c);
+            if (folded != c) {
+                if (chars == null) { chars = composed.toCharArray(); }
+                chars[i] = folded;
+            }
+        }
+
+        return chars == null ? composed : new String(chars);
+    }
+
+    public static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static char fold(char c) {
+        if (c >= FULL_WIDTH_FIRST && c <= FULL_WIDTH_LAST) {
+            return (char) (c - FULL_WIDTH_OFFSET);
+        }
+
+        return c == IDEOGRAPHIC_SPACE ? ' ' : c;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) && !isHangulSyllable(c);
+    }
+
+    private static void emitBigrams(String text, int start, int end, boolean forIndex, IndexTokenConsumer tokenConsumer) {
+        if (end - start == 1) {
+            tokenConsumer.accept(text.substring(start, end), false);
+            return;
+        }
+
+        for (int i = start; i < end - 1; i++) {
+            tokenConsumer.accept(text.substring(i, i + 2), false);
+            if (forIndex) { tokenConsumer.accept(text.substring(i, i + 1), true); }
+        }
+        // 마지막 음절은 자기 bigram 이 없으므로 마지막 bigram 자리에 겹쳐 둔다.
+        if (forIndex) { tokenConsumer.accept(text.substring(end - 1, end), true); }
+    }
+
+
+    @FunctionalInterface
+    public interface IndexTokenConsumer {
+
+        /**
+         * @param stacked 앞 토큰과 같은 자리(position increment 0)에 둘 토큰인지 여부
+         */
+        void accept(String token, boolean stacked);
+    }
+}
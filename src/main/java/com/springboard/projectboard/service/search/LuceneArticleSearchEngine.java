@@ -0,0 +1,212 @@
+package com.springboard.projectboard.service.search;
+
+import com.springboard.projectboard.config.ArticleSearchProperties;
+import com.springboard.projectboard.domain.constant.SearchType;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 로컬 디스크의 Lucene 역색인을 사용하는 검색 엔진.
+ * 제목/본문은 {@link ArticleSearchTokenizer} 규칙(한글 음절 bigram, 전각 문자 정규화)으로 색인하고,
+ * 검색어는 {@link ArticleSearchQueryParser} 문법(AND/OR/구문/제외)으로 해석한다.
+ * 색인 동기화는 {@link ArticleSearchIndexer} 가 게시글 변경 이벤트를 받아 처리한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "board.search.engine", havingValue = "lucene")
+@Component
+public class LuceneArticleSearchEngine implements ArticleSearchEngine {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+
+    private final Analyzer indexAnalyzer = ArticleSearchAnalyzer.forIndex();
+    private final QueryBuilder queryBuilder = new QueryBuilder(ArticleSearchAnalyzer.forQuery());
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    @Autowired
+    public LuceneArticleSearchEngine(ArticleSearchProperties properties) throws IOException {
+        this(FSDirectory.open(Path.of(properties.luceneIndexPath())));
+        log.info("Lucene 검색 색인을 엽니다. - path: {}", properties.luceneIndexPath());
+    }
+
+    LuceneArticleSearchEngine(Directory directory) throws IOException {
+        this.directory = directory;
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(indexAnalyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    @Override
+    public boolean supports(SearchType searchType) {
+        return searchType == SearchType.TITLE || searchType == SearchType.CONTENT;
+    }
+
+    @Override
+    public Page<Long> searchArticleIds(SearchType searchType, String searchKeyword, Pageable pageable) {
+        Query query = parseQuery(fieldOf(searchType), searchKeyword);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int offset = pageable.isPaged() ? (int) pageable.getOffset() : 0;
+                int size = pageable.isPaged() ? pageable.getPageSize() : Math.max(searcher.count(query), 1);
+
+                // 전체 건수도 정확히 세도록 totalHitsThreshold 를 최대로 둔다.
+                TopScoreDocCollector collector = TopScoreDocCollector.create(offset + size, Integer.MAX_VALUE);
+                searcher.search(query, collector);
+                TopDocs topDocs = collector.topDocs(offset, size);
+
+                List<Long> articleIds = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    articleIds.add(Long.valueOf(searcher.doc(scoreDoc.doc).get(FIELD_ID)));
+                }
+
+                return new PageImpl<>(articleIds, pageable, collector.getTotalHits());
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public boolean requiresIndexing() {
+        return true;
+    }
+
+    @Override
+    public void index(ArticleSearchDocument document) {
+        indexAll(List.of(document));
+    }
+
+    @Override
+    public void indexAll(Collection<ArticleSearchDocument> documents) {
+        try {
+            for (ArticleSearchDocument document : documents) {
+                indexWriter.updateDocument(new Term(FIELD_ID, document.id().toString()), toLuceneDocument(document));
+            }
+            commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 색인에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public void delete(Long articleId) {
+        try {
+            indexWriter.deleteDocuments(new Term(FIELD_ID, articleId.toString()));
+            commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 색인 삭제에 실패했습니다. - articleId: " + articleId, e);
+        }
+    }
+
+    @Override
+    public long indexedCount() {
+        return indexWriter.getDocStats().numDocs;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private void commit() throws IOException {
+        indexWriter.commit();
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    private Document toLuceneDocument(ArticleSearchDocument articleDocument) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, articleDocument.id().toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, nullToEmpty(articleDocument.title()), Field.Store.NO));
+        document.add(new TextField(FIELD_CONTENT, nullToEmpty(articleDocument.content()), Field.Store.NO));
+        return document;
+    }
+
+    /**
+     * {@link ArticleSearchQueryParser} 로 해석한 검색어를 Lucene 쿼리로 바꾼다. 각 단어와 구문은 bigram 구문 검색이 된다.
+     * 제외 조건만 있으면 전체 게시글에서 제외하고, 검색할 토큰이 하나도 없으면 {@code null} 을 반환한다.
+     */
+    private Query parseQuery(String field, String searchKeyword) {
+        ArticleSearchQuery searchQuery = ArticleSearchQueryParser.parse(searchKeyword);
+        if (searchQuery.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (List<ArticleSearchQuery.Term> group : searchQuery.requiredGroups()) {
+            BooleanQuery.Builder groupBuilder = new BooleanQuery.Builder();
+            group.stream()
+                    .map(term -> queryBuilder.createPhraseQuery(field, term.text()))
+                    .filter(Objects::nonNull)
+                    .forEach(query -> groupBuilder.add(query, BooleanClause.Occur.SHOULD));
+
+            BooleanQuery groupQuery = groupBuilder.build();
+            if (groupQuery.clauses().isEmpty()) {
+                return null;
+            }
+            builder.add(groupQuery.clauses().size() == 1 ? groupQuery.clauses().get(0).getQuery() : groupQuery, BooleanClause.Occur.MUST);
+        }
+        if (searchQuery.requiredGroups().isEmpty()) {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+        searchQuery.excludedTerms().stream()
+                .map(term -> queryBuilder.createPhraseQuery(field, term.text()))
+                .filter(Objects::nonNull)
+                .forEach(query -> builder.add(query, BooleanClause.Occur.MUST_NOT));
+
+        return builder.build();
+    }
+
+    private String fieldOf(SearchType searchType) {
+        return searchType == SearchType.TITLE ? FIELD_TITLE : FIELD_CONTENT;
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,115 @@
+package com.springboard.projectboard.service.search;
+
+import com.springboard.projectboard.domain.constant.SearchType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT 인덱스(ngram parser) 를 사용하는 검색 엔진.
+ * 색인은 MySQL 이 관리하므로 별도 동기화가 필요 없다. 아래 인덱스가 미리 있어야 한다.
+ *
+ * <pre>
+ * ALTER TABLE article ADD FULLTEXT INDEX ft_article_title (title) WITH PARSER ngram;
+ * ALTER TABLE article ADD FULLTEXT INDEX ft_article_content (content) WITH PARSER ngram;
+ * </pre>
+ *
+ * MATCH 의 컬럼 목록은 FULLTEXT 인덱스와 정확히 같아야 하므로 제목/본문 인덱스를 따로 둔다.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.search.engine", havingValue = "mysql")
+@Component
+public class MysqlFullTextArticleSearchEngine implements ArticleSearchEngine {
+
+    // BOOLEAN MODE 에서 연산자로 해석되는 문자들
+    private static final String BOOLEAN_MODE_OPERATORS = "+-<>()~*\"@";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public boolean supports(SearchType searchType) {
+        return searchType == SearchType.TITLE || searchType == SearchType.CONTENT;
+    }
+
+    @Override
+    public Page<Long> searchArticleIds(SearchType searchType, String searchKeyword, Pageable pageable) {
+        String booleanQuery = toBooleanModeQuery(searchKeyword);
+        if (booleanQuery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        String match = "MATCH(" + columnOf(searchType) + ") AGAINST (:query IN BOOLEAN MODE)";
+        Query query = entityManager
+                .createNativeQuery("SELECT id FROM article WHERE " + match + " ORDER BY " + match + " DESC, id DESC")
+                .setParameter("query", booleanQuery);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+        List<Long> articleIds = ((List<?>) query.getResultList()).stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+
+        return PageableExecutionUtils.getPage(articleIds, pageable, () -> ((Number) entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM article WHERE " + match)
+                .setParameter("query", booleanQuery)
+                .getSingleResult()).longValue());
+    }
+
+    /**
+     * {@link ArticleSearchQueryParser} 로 해석한 검색어를 BOOLEAN MODE 문법으로 바꾼다.
+     * 그룹은 {@code +(a b)}, 구문은 {@code "a b"}, 제외는 {@code -a} 가 된다. ngram parser 는 각 단어를 n-gram 구문 검색으로 바꿔 준다.
+     * BOOLEAN MODE 는 제외 조건만으로는 아무것도 찾지 않으므로, 포함 조건이 없으면 빈 문자열을 반환한다.
+     */
+    private String toBooleanModeQuery(String searchKeyword) {
+        ArticleSearchQuery searchQuery = ArticleSearchQueryParser.parse(searchKeyword);
+        List<String> requiredGroups = searchQuery.requiredGroups().stream()
+                .map(group -> group.stream()
+                        .map(this::toBooleanModeTerm)
+                        .filter(term -> !term.isEmpty())
+                        .collect(Collectors.joining(" ")))
+                .toList();
+        if (requiredGroups.isEmpty() || requiredGroups.stream().anyMatch(String::isEmpty)) {
+            return "";
+        }
+
+        StringBuilder query = new StringBuilder();
+        requiredGroups.forEach(group -> query.append("+(").append(group).append(") "));
+        searchQuery.excludedTerms().stream()
+                .map(this::toBooleanModeTerm)
+                .filter(term -> !term.isEmpty())
+                .forEach(term -> query.append('-').append(term).append(' '));
+
+        return query.toString().strip();
+    }
+
+    private String toBooleanModeTerm(ArticleSearchQuery.Term term) {
+        StringBuilder builder = new StringBuilder(term.text().length());
+        term.text().chars()
+                .filter(ch -> BOOLEAN_MODE_OPERATORS.indexOf(ch) < 0)
+                .forEach(builder::appendCodePoint);
+        String text = builder.toString().strip();
+        if (text.isEmpty()) {
+            return "";
+        }
+
+        if (term.phrase()) {
+            return "\"" + text + "\"";
+        }
+
+        // ngram 토큰(2글자)보다 짧은 한 글자 한글은 그대로 두면 아무것도 찾지 못하므로, 그 글자로 시작하는 토큰을 찾는 접두어 검색으로 바꾼다.
+        return text.length() == 1 && ArticleSearchTokenizer.isHangulSyllable(text.charAt(0)) ? text + "*" : text;
+    }
+
+    private String columnOf(SearchType searchType) {
+        return searchType == SearchType.TITLE ? "title" : "content";
+    }
+}
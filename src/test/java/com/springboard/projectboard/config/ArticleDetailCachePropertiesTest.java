@@ -0,0 +1,51 @@
+package com.springboard.projectboard.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("설정 - 게시글 상세 캐시")
+class ArticleDetailCachePropertiesTest {
+
+    @DisplayName("board.article.detail-cache 아래의 ttl, max-entries 를 그대로 읽는다.")
+    @Test
+    void givenDetailCacheProperties_whenBinding_thenReadsTtlAndMaxEntries() {
+        // Given
+        Map<String, String> source = Map.of(
+                "board.article.detail-cache.ttl", "10m",
+                "board.article.detail-cache.max-entries", "50"
+        );
+
+        // When
+        ArticleDetailCacheProperties properties = bind(source);
+
+        // Then
+        assertThat(properties.ttl()).isEqualTo(Duration.ofMinutes(10));
+        assertThat(properties.maxEntries()).isEqualTo(50);
+    }
+
+    @DisplayName("설정이 없으면, 게시글 1000개까지 5분 동안 캐시한다.")
+    @Test
+    void givenNoProperties_whenBinding_thenUsesDefaults() {
+        // Given
+        Map<String, String> source = Map.of();
+
+        // When
+        ArticleDetailCacheProperties properties = bind(source);
+
+        // Then
+        assertThat(properties.ttl()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(properties.maxEntries()).isEqualTo(1000);
+    }
+
+    private ArticleDetailCacheProperties bind(Map<String, String> source) {
+        return new Binder(new MapConfigurationPropertySource(source))
+                .bindOrCreate("board.article.detail-cache", ArticleDetailCacheProperties.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.springboard.projectboard.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("설정 - 해시태그")
+class HashtagPropertiesTest {
+
+    @DisplayName("board.hashtag.defer-orphan-cleanup 을 켜면, 쓰이지 않는 해시태그 정리를 미룬다.")
+    @Test
+    void givenDeferOrphanCleanup_whenBinding_thenDefersCleanup() {
+        // Given
+        Map<String, String> source = Map.of("board.hashtag.defer-orphan-cleanup", "true");
+
+        // When
+        HashtagProperties properties = bind(source);
+
+        // Then
+        assertThat(properties.deferOrphanCleanup()).isTrue();
+    }
+
+    @DisplayName("설정이 없으면, 요청 안에서 바로 정리한다.")
+    @Test
+    void givenNoProperties_whenBinding_thenCleansUpImmediately() {
+        // Given
+        Map<String, String> source = Map.of();
+
+        // When
+        HashtagProperties properties = bind(source);
+
+        // Then
+        assertThat(properties.deferOrphanCleanup()).isFalse();
+    }
+
+    private HashtagProperties bind(Map<String, String> source) {
+        return new Binder(new MapConfigurationPropertySource(source))
+                .bindOrCreate("board.hashtag", HashtagProperties.class);
+    }
+}
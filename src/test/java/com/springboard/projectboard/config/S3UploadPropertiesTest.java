@@ -0,0 +1,50 @@
+package com.springboard.projectboard.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("설정 - S3 업로드")
+class S3UploadPropertiesTest {
+
+    @DisplayName("예전 이름인 recovery-interval-ms 만 있으면, 밀리초로 읽어서 recoveryInterval 로 쓴다.")
+    @Test
+    void givenLegacyRecoveryIntervalMs_whenBinding_thenUsesItAsRecoveryInterval() {
+        // Given
+        Map<String, String> source = Map.of("board.file.upload.recovery-interval-ms", "60000");
+
+        // When
+        S3UploadProperties properties = bind(source);
+
+        // Then
+        assertThat(properties.recoveryInterval()).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @DisplayName("recovery-interval 과 예전 이름이 함께 있으면, recovery-interval 을 쓴다.")
+    @Test
+    void givenBothRecoveryIntervalNames_whenBinding_thenPrefersRecoveryInterval() {
+        // Given
+        Map<String, String> source = Map.of(
+                "board.file.upload.recovery-interval", "30s",
+                "board.file.upload.recovery-interval-ms", "60000"
+        );
+
+        // When
+        S3UploadProperties properties = bind(source);
+
+        // Then
+        assertThat(properties.recoveryInterval()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    private S3UploadProperties bind(Map<String, String> source) {
+        return new Binder(new MapConfigurationPropertySource(source))
+                .bind("board.file.upload", S3UploadProperties.class)
+                .get();
+    }
+}
@@ -3,12 +3,16 @@ package com.springboard.projectboard.controller;
 import com.springboard.projectboard.config.TestSecurityConfig;
 import com.springboard.projectboard.domain.constant.FormStatus;
 import com.springboard.projectboard.domain.constant.SearchType;
+import com.springboard.projectboard.dto.ArticleCursorPage;
 import com.springboard.projectboard.dto.ArticleDto;
 import com.springboard.projectboard.dto.ArticleWithCommentsDto;
 import com.springboard.projectboard.dto.HashtagDto;
 import com.springboard.projectboard.dto.UserAccountDto;
 import com.springboard.projectboard.dto.request.ArticleRequest;
+import com.springboard.projectboard.dto.response.ArticleDetailResponse;
 import com.springboard.projectboard.dto.response.ArticleResponse;
+import com.springboard.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.springboard.projectboard.service.ArticleDetailService;
 import com.springboard.projectboard.service.ArticleService;
 import com.springboard.projectboard.service.ArticleFileService;
 import com.springboard.projectboard.service.PaginationService;
@@ -24,6 +28,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -51,6 +56,7 @@ class ArticleControllerTest {
 
     @MockBean private ArticleService articleService;
     @MockBean private ArticleFileService articleFileService;
+    @MockBean private ArticleDetailService articleDetailService;
     @MockBean private PaginationService paginationService;
 
     public ArticleControllerTest(
@@ -66,7 +72,7 @@ class ArticleControllerTest {
     @Test
     public void givenNothing_whenRequestingArticlesView_thenReturnsArticlesView() throws Exception {
         // Given
-        given(articleService.searchArticles(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticleSummaries(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
         // When & Then
@@ -79,17 +85,39 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("searchTypes"))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
 
-        then(articleService).should().searchArticles(eq(null), eq(null), any(Pageable.class));
+        then(articleService).should().searchArticleSummaries(eq(null), eq(null), any(Pageable.class));
+        then(articleFileService).should().getArticleIdsWithFiles(anyCollection());
+        then(articleFileService).shouldHaveNoMoreInteractions();
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 목록이 그대로면 화면을 그리지 않고 304")
+    @Test
+    public void givenUnchangedArticles_whenRequestingArticlesViewWithETag_thenReturnsNotModified() throws Exception {
+        // Given
+        given(articleService.searchArticleSummaries(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
+        String eTag = mvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mvc.perform(get("/articles").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
     @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 검색어와 함께 호출")
     @Test
     public void givenSearchKeyword_whenSearchingArticlesView_thenReturnsArticlesView() throws Exception {
         // Given
         SearchType searchType = SearchType.TITLE;
         String searchValue = "title";
-        given(articleService.searchArticles(eq(searchType), eq(searchValue), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticleSummaries(eq(searchType), eq(searchValue), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
         // When & Then
@@ -104,7 +132,7 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attributeExists("searchTypes"));
 
-        then(articleService).should().searchArticles(eq(searchType), eq(searchValue), any(Pageable.class));
+        then(articleService).should().searchArticleSummaries(eq(searchType), eq(searchValue), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -119,7 +147,7 @@ class ArticleControllerTest {
         Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.desc(sortName)));
         List<Integer> barNumbers = List.of(1, 2, 3, 4, 5);
 
-        given(articleService.searchArticles(null, null, pageable)).willReturn(Page.empty());
+        given(articleService.searchArticleSummaries(null, null, pageable)).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages())).willReturn(barNumbers);
 
         // When & Then
@@ -135,10 +163,31 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attribute("paginationBarNumbers", barNumbers));
 
-        then(articleService).should().searchArticles(null, null, pageable);
+        then(articleService).should().searchArticleSummaries(null, null, pageable);
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (커서 페이지네이션) 페이지 - 정상호출")
+    @Test
+    void givenCursor_whenRequestingArticlesByCursorView_thenReturnsCursorArticlesView() throws Exception {
+        // Given
+        String cursor = "cursor-token";
+        given(articleService.searchArticleSummariesByCursor(null, null, cursor, 10))
+                .willReturn(ArticleCursorPage.of(List.of(), null, "previous-token"));
+
+        // When & Then
+        mvc.perform(get("/articles/cursor").queryParam("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/cursor"))
+                .andExpect(model().attribute("articles", List.of()))
+                .andExpect(model().attribute("previousCursor", "previous-token"))
+                .andExpect(model().attributeExists("searchTypes"));
+
+        then(articleService).should().searchArticleSummariesByCursor(null, null, cursor, 10);
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
     @DisplayName("[view][GET] 게시글 페이지 - 인증 없을 땐 로그인 페이지로 이동")
     @Test
     void givenNothing_whenRequestingArticlePage_thenRedirectsToLoginPage() throws Exception {
@@ -160,25 +209,47 @@ class ArticleControllerTest {
         // Given
         Long articleId = 1L;
 
-        given(articleService.getArticleWithComments(articleId)).willReturn(createdArticleWithCommentsDto());
-        given(articleService.getPreviousArticleId(articleId)).willReturn(null);
-        given(articleService.getNextArticleId(articleId)).willReturn(2L);
-        given(articleFileService.getArticleFiles(articleId)).willReturn(List.of());
+        ArticleDetailResponse detail = createdArticleDetailResponse();
+
+        given(articleDetailService.getArticleDetail(articleId)).willReturn(detail);
 
         // When & Then
         mvc.perform(get("/articles/" + articleId))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
                 .andExpect(view().name("articles/detail"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
                 .andExpect(model().attributeExists("article"))
                 .andExpect(model().attributeExists("articleComments"))
                 .andExpect(model().attributeExists("articleFiles"))
+                .andExpect(model().attribute("nextArticleId", 2L))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
 
-        then(articleService).should().getArticleWithComments(articleId);
-        then(articleService).should().getPreviousArticleId(articleId);
-        then(articleService).should().getNextArticleId(articleId);
-        then(articleFileService).should().getArticleFiles(articleId);
+        then(articleDetailService).should().getArticleDetail(articleId);
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 페이지 - ETag 가 같으면 본문 없이 304")
+    @Test
+    public void givenMatchingETag_whenRequestingArticleView_thenReturnsNotModified() throws Exception {
+        // Given
+        Long articleId = 1L;
+        ArticleDetailResponse detail = createdArticleDetailResponse();
+
+        given(articleDetailService.getArticleDetail(articleId)).willReturn(detail);
+        String eTag = mvc.perform(get("/articles/" + articleId))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        then(articleDetailService).should(times(2)).getArticleDetail(articleId);
     }
 
     @Disabled("구현 중")
@@ -201,7 +272,7 @@ class ArticleControllerTest {
         // Given
         List<String> hashtags = List.of("#java", "#spring", "#boot");
 
-        given(articleService.searchArticlesViaHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticleSummariesViaHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
         given(articleService.getHashtags()).willReturn(hashtags);
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4, 5));
 
@@ -215,7 +286,7 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attribute("searchType", SearchType.HASHTAG));
 
-        then(articleService).should().searchArticlesViaHashtag(eq(null), any(Pageable.class));
+        then(articleService).should().searchArticleSummariesViaHashtag(eq(null), any(Pageable.class));
         then(articleService).should().getHashtags();
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
@@ -227,7 +298,7 @@ class ArticleControllerTest {
         String hashtag = "#java";
         List<String> hashtags = List.of("#java", "#spring", "#boot");
 
-        given(articleService.searchArticlesViaHashtag(eq(hashtag), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticleSummariesViaHashtag(eq(hashtag), any(Pageable.class))).willReturn(Page.empty());
         given(articleService.getHashtags()).willReturn(hashtags);
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4, 5));
 
@@ -244,7 +315,7 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attribute("searchType", SearchType.HASHTAG));
 
-        then(articleService).should().searchArticlesViaHashtag(eq(hashtag), any(Pageable.class));
+        then(articleService).should().searchArticleSummariesViaHashtag(eq(hashtag), any(Pageable.class));
         then(articleService).should().getHashtags();
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
@@ -383,6 +454,16 @@ class ArticleControllerTest {
         );
     }
 
+    private ArticleDetailResponse createdArticleDetailResponse() {
+        return ArticleDetailResponse.of(
+                ArticleWithCommentsResponse.from(createdArticleWithCommentsDto()),
+                List.of(),
+                null,
+                2L,
+                LocalDateTime.now()
+        );
+    }
+
     private ArticleWithCommentsDto createdArticleWithCommentsDto() {
         return ArticleWithCommentsDto.of(
                 1L,
@@ -1,22 +1,35 @@
 package com.springboard.projectboard.controller;
 
+import com.springboard.projectboard.config.FileDownloadProperties;
 import com.springboard.projectboard.config.TestSecurityConfig;
 import com.springboard.projectboard.domain.ArticleFile;
 import com.springboard.projectboard.service.ArticleFileService;
+import com.springboard.projectboard.service.FileDiskCache;
+import com.springboard.projectboard.service.PresignedDownloadUrlService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.io.ByteArrayInputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
@@ -26,12 +39,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @DisplayName("View 컨트롤러 - 파일")
 @Import(TestSecurityConfig.class)
+@EnableConfigurationProperties(FileDownloadProperties.class)
 @WebMvcTest(FileController.class)
 class FileControllerTest {
 
     private final MockMvc mvc;
 
     @MockBean private ArticleFileService articleFileService;
+    @MockBean private PresignedDownloadUrlService presignedDownloadUrlService;
+    @MockBean private FileDiskCache fileDiskCache;
 
     public FileControllerTest(@Autowired MockMvc mvc) {
         this.mvc = mvc;
@@ -47,14 +63,173 @@ class FileControllerTest {
 
         given(articleFileService.getArticleFile(fileId)).willReturn(articleFile);
         given(articleFileService.downloadFile(any())).willReturn(inputStream);
+        given(fileDiskCache.cacheWhileReading(eq("articles/1/1_uuid.jpg"), eq(1024L), any()))
+                .willAnswer(invocation -> invocation.getArgument(2));
 
         // When & Then
         mvc.perform(get("/files/download/" + fileId))
                 .andExpect(status().isOk())
-                .andExpect(header().string("Content-Disposition", "attachment; filename*=UTF-8''test.jpg"));
+                .andExpect(header().string("Content-Disposition", "attachment; filename*=UTF-8''test.jpg"))
+                .andExpect(header().exists(HttpHeaders.ETAG));
 
         then(articleFileService).should().getArticleFile(fileId);
         then(articleFileService).should().downloadFile(any());
+        then(fileDiskCache).should().cacheWhileReading("articles/1/1_uuid.jpg", 1024L, inputStream);
+    }
+
+    @DisplayName("[view][GET] 파일 다운로드 - 디스크 캐시에 있으면 S3 를 부르지 않고 캐시 파일을 보낸다")
+    @Test
+    void givenCachedFile_whenRequestingFileDownload_thenServesFromDiskCache(@TempDir Path tempDir) throws Exception {
+        // Given
+        Long fileId = 1L;
+        ArticleFile articleFile = createArticleFile();
+        Path cachedFile = Files.write(tempDir.resolve("cached"), "cached content".getBytes());
+        given(articleFileService.getArticleFile(fileId)).willReturn(articleFile);
+        given(fileDiskCache.openIfCached("articles/1/1_uuid.jpg", 1024L))
+                .willReturn(Optional.of(FileChannel.open(cachedFile)));
+
+        // When & Then
+        MvcResult result = mvc.perform(get("/files/download/" + fileId))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(content().string("cached content"));
+
+        then(articleFileService).should().getArticleFile(fileId);
+        then(articleFileService).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("[view][GET] 파일 다운로드 - ETag 가 같으면 S3 를 부르지 않고 304")
+    @Test
+    void givenMatchingETag_whenRequestingFileDownload_thenReturnsNotModifiedWithoutDownloading() throws Exception {
+        // Given
+        Long fileId = 1L;
+        ArticleFile articleFile = createArticleFile();
+        given(articleFileService.getArticleFile(fileId)).willReturn(articleFile);
+        given(articleFileService.downloadFile(any())).willReturn(new ByteArrayInputStream("test content".getBytes()));
+        given(fileDiskCache.cacheWhileReading(any(), anyLong(), any())).willAnswer(invocation -> invocation.getArgument(2));
+        String eTag = mvc.perform(get("/files/download/" + fileId))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        clearInvocations(articleFileService);
+
+        // When & Then
+        mvc.perform(get("/files/download/" + fileId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        then(articleFileService).should().getArticleFile(fileId);
+        then(articleFileService).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("[view][GET] 파일 다운로드 - 캐시에 없는 Range 요청이면 해당 구간만 S3 에서 받아 206 으로 보내고 캐시를 채우지 않는다")
+    @Test
+    void givenRangeHeader_whenRequestingFileDownload_thenReturnsPartialContent() throws Exception {
+        // Given
+        Long fileId = 1L;
+        ArticleFile articleFile = createArticleFile();
+        given(articleFileService.getArticleFile(fileId)).willReturn(articleFile);
+        given(articleFileService.downloadFile("articles/1/1_uuid.jpg", 100L, 103L))
+                .willReturn(new ByteArrayInputStream("test".getBytes()));
+
+        // When & Then
+        MvcResult result = mvc.perform(get("/files/download/" + fileId).header(HttpHeaders.RANGE, "bytes=100-103"))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-103/1024"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4L))
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(content().string("test"));
+
+        then(articleFileService).should().downloadFile("articles/1/1_uuid.jpg", 100L, 103L);
+        then(articleFileService).should(never()).downloadFile(any());
+        then(fileDiskCache).should(never()).cacheWhileReading(any(), anyLong(), any());
+    }
+
+    @DisplayName("[view][GET] 파일 다운로드 - 파일 크기를 벗어난 Range 요청이면 S3 를 부르지 않고 416")
+    @Test
+    void givenUnsatisfiableRange_whenRequestingFileDownload_thenReturnsRangeNotSatisfiable() throws Exception {
+        // Given
+        Long fileId = 1L;
+        given(articleFileService.getArticleFile(fileId)).willReturn(createArticleFile());
+
+        // When & Then
+        mvc.perform(get("/files/download/" + fileId).header(HttpHeaders.RANGE, "bytes=2048-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */1024"));
+
+        then(articleFileService).should().getArticleFile(fileId);
+        then(articleFileService).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("[view][GET] 파일 다운로드 - bytes 가 아닌 단위나 형식이 잘못된 Range 요청이면 무시하고 200 으로 전체를 보낸다")
+    @ParameterizedTest(name = "[{index}] Range: {0}")
+    @ValueSource(strings = {"items=0-5", "bytes=5-2", "bytes=abc"})
+    void givenInvalidRange_whenRequestingFileDownload_thenIgnoresRangeAndReturnsWholeFile(String rangeHeader) throws Exception {
+        // Given
+        Long fileId = 1L;
+        given(articleFileService.getArticleFile(fileId)).willReturn(createArticleFile());
+        given(articleFileService.downloadFile("articles/1/1_uuid.jpg"))
+                .willReturn(new ByteArrayInputStream("test content".getBytes()));
+        given(fileDiskCache.cacheWhileReading(eq("articles/1/1_uuid.jpg"), eq(1024L), any()))
+                .willAnswer(invocation -> invocation.getArgument(2));
+
+        // When & Then
+        mvc.perform(get("/files/download/" + fileId).header(HttpHeaders.RANGE, rangeHeader))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 1024L));
+
+        then(articleFileService).should().downloadFile("articles/1/1_uuid.jpg");
+        then(articleFileService).should(never()).downloadFile(any(), anyLong(), anyLong());
+    }
+
+    @DisplayName("[view][GET] 파일 다운로드 - 리다이렉트 방식이면 서명 URL 로 302 를 보내고 파일을 중계하지 않는다")
+    @Test
+    void givenRedirectMode_whenRequestingFileDownload_thenRedirectsToPresignedUrl() throws Exception {
+        // Given
+        Long fileId = 1L;
+        ArticleFile articleFile = createArticleFile();
+        String presignedUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/articles/1/1_uuid.jpg?X-Amz-Signature=abc";
+        given(articleFileService.getArticleFile(fileId)).willReturn(articleFile);
+        given(presignedDownloadUrlService.getDownloadUrl(articleFile, "attachment; filename*=UTF-8''test.jpg"))
+                .willReturn(Optional.of(presignedUrl));
+
+        // When & Then
+        mvc.perform(get("/files/download/" + fileId))
+                .andExpect(status().isFound())
+                .andExpect(header().string(HttpHeaders.LOCATION, presignedUrl))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+
+        then(articleFileService).should().getArticleFile(fileId);
+        then(articleFileService).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("[view][GET] 파일 다운로드 - 아직 S3 에 올라가지 않은 파일이면 404")
+    @Test
+    void givenPendingFile_whenRequestingFileDownload_thenReturnsNotFound() throws Exception {
+        // Given
+        Long fileId = 1L;
+        ArticleFile articleFile = ArticleFile.pending(
+                null,
+                "test.jpg",
+                "articles/1/1_uuid.jpg",
+                "https://test-bucket.s3.ap-northeast-2.amazonaws.com/articles/1/1_uuid.jpg",
+                1024L,
+                1,
+                "image/jpeg",
+                "/spool/upload-1.tmp"
+        );
+        given(articleFileService.getArticleFile(fileId)).willReturn(articleFile);
+
+        // When & Then
+        mvc.perform(get("/files/download/" + fileId))
+                .andExpect(status().isNotFound());
+
+        then(articleFileService).should(never()).downloadFile(any());
     }
 
     @WithUserDetails(value = "eongyuTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
@@ -0,0 +1,66 @@
+package com.springboard.projectboard.controller;
+
+import com.springboard.projectboard.config.TestSecurityConfig;
+import com.springboard.projectboard.dto.HashtagUsageDto;
+import com.springboard.projectboard.service.HashtagDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 해시태그")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(HashtagController.class)
+class HashtagControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private HashtagDictionary hashtagDictionary;
+
+    public HashtagControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[api][GET] 해시태그 자동완성 - 정상 호출")
+    @Test
+    void givenPrefix_whenRequestingHashtagSuggestions_thenReturnsSuggestions() throws Exception {
+        // Given
+        given(hashtagDictionary.findByPrefix("spr", 10)).willReturn(List.of(
+                HashtagUsageDto.of(2L, "springboot", 8L),
+                HashtagUsageDto.of(1L, "spring", 3L)
+        ));
+
+        // When & Then
+        mvc.perform(get("/hashtags/suggest").queryParam("prefix", "#spr"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].hashtagName").value("springboot"))
+                .andExpect(jsonPath("$[0].articleCount").value(8))
+                .andExpect(jsonPath("$[1].hashtagName").value("spring"));
+        then(hashtagDictionary).should().findByPrefix("spr", 10);
+    }
+
+    @DisplayName("[api][GET] 해시태그 자동완성 - 너무 많은 개수를 요청하면 상한까지만 찾는다")
+    @Test
+    void givenTooLargeSize_whenRequestingHashtagSuggestions_thenCapsSize() throws Exception {
+        // Given
+        given(hashtagDictionary.findByPrefix("java", 20)).willReturn(List.of());
+
+        // When & Then
+        mvc.perform(get("/hashtags/suggest").queryParam("prefix", "java").queryParam("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        then(hashtagDictionary).should().findByPrefix("java", 20);
+    }
+}
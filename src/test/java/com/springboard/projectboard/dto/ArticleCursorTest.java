@@ -0,0 +1,52 @@
+package com.springboard.projectboard.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("DTO - 게시글 키셋 커서")
+class ArticleCursorTest {
+
+    @DisplayName("커서를 인코딩한 뒤 디코딩하면, 원래 커서로 복원된다.")
+    @Test
+    void givenCursor_whenEncodingAndDecoding_thenRestoresSameCursor() {
+        // Given
+        ArticleCursor cursor = ArticleCursor.of(ArticleCursor.Direction.PREVIOUS, LocalDateTime.of(2024, 1, 2, 3, 4, 5, 678_000_000), 42L);
+
+        // When
+        String token = cursor.encode();
+        ArticleCursor actual = ArticleCursor.decode(token);
+
+        // Then
+        assertThat(token).doesNotContain("|", "42");
+        assertThat(actual).isEqualTo(cursor);
+        assertThat(actual.isPrevious()).isTrue();
+    }
+
+    @DisplayName("빈 토큰을 디코딩하면, null 을 반환한다.")
+    @Test
+    void givenBlankToken_whenDecoding_thenReturnsNull() {
+        // Given
+
+        // When & Then
+        assertThat(ArticleCursor.decode(null)).isNull();
+        assertThat(ArticleCursor.decode(" ")).isNull();
+    }
+
+    @DisplayName("형식이 잘못된 토큰을 디코딩하면, 예외를 던진다.")
+    @Test
+    void givenMalformedToken_whenDecoding_thenThrowsException() {
+        // Given
+        String token = "not-a-cursor";
+
+        // When
+        Throwable t = catchThrowable(() -> ArticleCursor.decode(token));
+
+        // Then
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+}
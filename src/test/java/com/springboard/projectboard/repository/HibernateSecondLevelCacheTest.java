@@ -0,0 +1,135 @@
+package com.springboard.projectboard.repository;
+
+import com.springboard.projectboard.config.HibernateCacheConfig;
+import com.springboard.projectboard.config.HibernateCacheProperties;
+import com.springboard.projectboard.domain.Article;
+import com.springboard.projectboard.domain.ArticleComment;
+import com.springboard.projectboard.domain.UserAccount;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시는 커밋된 데이터만 담으므로, 테스트 트랜잭션 없이 저장소 호출마다 커밋되도록 돌린다.
+ */
+@DisplayName("JPA 2차 캐시 테스트")
+@Import({HibernateCacheConfig.class, HibernateSecondLevelCacheTest.TestJpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DataJpaTest
+class HibernateSecondLevelCacheTest {
+
+    private static final String ARTICLE_COMMENTS_ROLE = Article.class.getName() + ".articleComments";
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Statistics statistics;
+
+    public HibernateSecondLevelCacheTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired PlatformTransactionManager transactionManager,
+            @Autowired EntityManagerFactory entityManagerFactory
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics.clear();
+    }
+
+    @DisplayName("한 번 읽은 게시글을 다시 조회하면, 작성자까지 DB 를 거치지 않고 2차 캐시에서 읽는다")
+    @Test
+    void givenLoadedArticle_whenFindingAgain_thenReadsFromSecondLevelCache() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("cacheUser", "pw", "cache@mail.com", null, null));
+        Long articleId = articleRepository.save(Article.of(userAccount, "cached title", "content")).getId();
+        articleRepository.findById(articleId);
+        statistics.clear();
+
+        // When
+        Optional<Article> article = articleRepository.findById(articleId);
+
+        // Then
+        assertThat(article).get()
+                .extracting(Article::getTitle)
+                .isEqualTo("cached title");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @DisplayName("댓글을 저장하면, 캐시된 게시글 댓글 컬렉션이 비워져 새 댓글이 보인다")
+    @Test
+    void givenCachedCommentCollection_whenSavingComment_thenEvictsCollectionCache() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("commentUser", "pw", "comment@mail.com", null, null));
+        Long articleId = articleRepository.save(Article.of(userAccount, "title", "content")).getId();
+        statistics.clear();
+        assertThat(countArticleComments(articleId)).isZero();
+        assertThat(countArticleComments(articleId)).isZero();
+        CollectionStatistics cachedCommentsStatistics = statistics.getCollectionStatistics(ARTICLE_COMMENTS_ROLE);
+        assertThat(cachedCommentsStatistics.getCachePutCount()).isPositive(); // 처음 읽을 때 컬렉션 캐시에 넣고
+        assertThat(cachedCommentsStatistics.getCacheHitCount()).isPositive(); // 두 번째는 컬렉션 캐시에서 읽는다
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> articleCommentRepository.save(
+                ArticleComment.of(articleRepository.getReferenceById(articleId), userAccount, "new comment")
+        ));
+        statistics.clear();
+        int commentCount = countArticleComments(articleId);
+
+        // Then
+        CollectionStatistics reloadedCommentsStatistics = statistics.getCollectionStatistics(ARTICLE_COMMENTS_ROLE);
+        assertThat(commentCount).isEqualTo(1);
+        assertThat(reloadedCommentsStatistics.getCacheHitCount()).isZero();
+        assertThat(reloadedCommentsStatistics.getCacheMissCount()).isPositive(); // 비워졌으므로 DB 에서 다시 읽는다
+    }
+
+    private int countArticleComments(Long articleId) {
+        Integer count = transactionTemplate.execute(status -> articleRepository.findById(articleId)
+                .orElseThrow()
+                .getArticleComments()
+                .size());
+        return count == null ? 0 : count;
+    }
+
+
+    @EnableJpaAuditing
+    @EnableConfigurationProperties(HibernateCacheProperties.class)
+    @TestConfiguration
+    public static class TestJpaConfig {
+
+        @Bean
+        public AuditorAware<String> auditorAware() {
+            return () -> Optional.of("eongyu");
+        }
+    }
+
+}
@@ -1,8 +1,20 @@
 package com.springboard.projectboard.repository;
 
+import com.querydsl.core.types.Predicate;
 import com.springboard.projectboard.domain.Article;
+import com.springboard.projectboard.domain.ArticleFile;
 import com.springboard.projectboard.domain.Hashtag;
+import com.springboard.projectboard.domain.QArticle;
 import com.springboard.projectboard.domain.UserAccount;
+import com.springboard.projectboard.domain.constant.ArticleFileStatus;
+import com.springboard.projectboard.domain.constant.SearchType;
+import com.springboard.projectboard.dto.ArticleDto;
+import com.springboard.projectboard.dto.ArticleNeighborIds;
+import com.springboard.projectboard.dto.ArticleSummaryDto;
+import com.springboard.projectboard.dto.HashtagUsageDto;
+import com.springboard.projectboard.service.ArticleSearchPredicates;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,15 +26,18 @@ import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.jdbc.Sql;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DisplayName("JPA 연결 테스트")
 @Import(JpaRepositoryTest.TestJpaConfig.class)
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Sql(statements = {
     "CREATE TABLE IF NOT EXISTS user_account (user_id VARCHAR(50) PRIMARY KEY, user_password VARCHAR(255), email VARCHAR(100), nickname VARCHAR(100), memo TEXT, created_at TIMESTAMP, created_by VARCHAR(100), modified_at TIMESTAMP, modified_by VARCHAR(100))",
     "CREATE TABLE IF NOT EXISTS article (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id VARCHAR(50), title VARCHAR(255), content TEXT, created_at TIMESTAMP, created_by VARCHAR(100), modified_at TIMESTAMP, modified_by VARCHAR(100))",
@@ -36,17 +51,20 @@ class JpaRepositoryTest {
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final EntityManager entityManager;
 
     public JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired ArticleCommentRepository articleCommentRepository,
             @Autowired UserAccountRepository userAccountRepository,
-            @Autowired HashtagRepository hashtagRepository
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired EntityManager entityManager
     ) {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hashtagRepository = hashtagRepository;
+        this.entityManager = entityManager;
     }
 
     @DisplayName("select 테스트")
@@ -133,6 +151,35 @@ class JpaRepositoryTest {
         assertThat(hashtagNames).hasSize(0);
     }
 
+    @DisplayName("[Querydsl] 전체 hashtag 와 각 hashtag 를 쓰는 게시글 수 조회하기")
+    @Test
+    void givenHashtagsWithArticles_whenQueryingHashtagUsages_thenReturnsArticleCounts() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("usageUser", "pw", "usage@mail.com", null, null));
+        Hashtag popularHashtag = Hashtag.of("usage_popular");
+        Hashtag rareHashtag = Hashtag.of("usage_rare");
+        Article article1 = Article.of(userAccount, "title1", "content1");
+        article1.addHashtags(Set.of(popularHashtag, rareHashtag));
+        Article article2 = Article.of(userAccount, "title2", "content2");
+        article2.addHashtag(popularHashtag);
+        articleRepository.saveAll(List.of(article1, article2));
+        hashtagRepository.save(Hashtag.of("usage_orphan"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<HashtagUsageDto> usages = hashtagRepository.findAllHashtagUsages();
+
+        // Then
+        assertThat(usages)
+                .extracting(HashtagUsageDto::hashtagName, HashtagUsageDto::articleCount)
+                .containsExactlyInAnyOrder(
+                        tuple("usage_popular", 2L),
+                        tuple("usage_rare", 1L),
+                        tuple("usage_orphan", 0L)
+                );
+    }
+
     @DisplayName("[Querydsl] hashtag로 페이지된 게시글 검색하기")
     @Test
     void givenHashtagNamesAndPageable_whenQueryingArticles_thenReturnsArticlePage() {
@@ -161,6 +208,252 @@ class JpaRepositoryTest {
         assertThat(articlePage.getTotalPages()).isEqualTo(1);
     }
 
+    @DisplayName("[Querydsl] 게시글 목록 페이지를 조회하면, 작성자와 해시태그까지 3번 이하의 쿼리로 불러온다")
+    @Test
+    void givenArticlesWithAuthorsAndHashtags_whenQueryingArticlePage_thenLoadsPageWithinThreeQueries() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            UserAccount userAccount = userAccountRepository.save(UserAccount.of("user" + i, "pw", null, "nickname" + i, null));
+            Article article = Article.of(userAccount, "title" + i, "content" + i);
+            article.addHashtags(Set.of(Hashtag.of("java" + i), Hashtag.of("spring" + i)));
+            articleRepository.save(article);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Pageable pageable = PageRequest.of(0, 3, Sort.by(Sort.Order.desc("createdAt")));
+
+        // When
+        Page<ArticleDto> articlePage = articleRepository.findArticlePage(null, pageable).map(ArticleDto::from);
+
+        // Then
+        assertThat(articlePage.getContent())
+                .hasSize(3)
+                .allSatisfy(dto -> {
+                    assertThat(dto.userAccountDto().nickname()).startsWith("nickname");
+                    assertThat(dto.hashtagDtos()).hasSize(2);
+                });
+        assertThat(articlePage.getTotalElements()).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @DisplayName("[Querydsl] 게시글 요약 페이지를 조회하면, 본문 미리보기와 해시태그를 3번 이하의 쿼리로 불러온다")
+    @Test
+    void givenLongContentArticles_whenQueryingArticleSummaries_thenReturnsPreviewAndHashtagsWithinThreeQueries() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("summaryUser", "pw", "summary@mail.com", null, null));
+        for (int i = 0; i < 4; i++) {
+            Article article = Article.of(userAccount, "title" + i, "본문".repeat(1000));
+            article.addHashtags(Set.of(Hashtag.of("summary" + i)));
+            articleRepository.save(article);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Order.desc("createdAt")));
+
+        // When
+        Page<ArticleSummaryDto> summaries = articleRepository.findArticleSummaries(
+                QArticle.article.userAccount.userId.eq("summaryUser"),
+                pageable
+        );
+
+        // Then
+        assertThat(summaries.getContent())
+                .hasSize(2)
+                .allSatisfy(summary -> {
+                    assertThat(summary.contentPreview()).hasSizeLessThanOrEqualTo(100);
+                    assertThat(summary.hashtagNames()).hasSize(1);
+                    assertThat(summary.userId()).isEqualTo("summaryUser");
+                });
+        assertThat(summaries.getTotalElements()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @DisplayName("[Querydsl] 상한을 두고 게시글 수를 세면, 상한 + 1 건까지만 센다")
+    @Test
+    void givenArticlesOverLimit_whenCountingWithLimit_thenCountsUpToLimitPlusOne() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("countUser", "pw", "count@mail.com", null, null));
+        for (int i = 0; i < 5; i++) {
+            articleRepository.save(Article.of(userAccount, "count title" + i, "content"));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Predicate predicate = QArticle.article.title.contains("count title");
+
+        // When
+        long capped = articleRepository.countArticles(predicate, 2);
+        long exact = articleRepository.countArticles(predicate, 0);
+        Slice<ArticleSummaryDto> slice = articleRepository.findArticleSummarySlice(predicate, PageRequest.of(1, 2));
+
+        // Then
+        assertThat(capped).isEqualTo(3);
+        assertThat(exact).isEqualTo(5);
+        assertThat(slice.getContent()).hasSize(2);
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @DisplayName("[Querydsl] 해시태그 검색 조건(GROUP BY/HAVING 서브쿼리)으로 모두 달린 게시글을 찾으면, 중복 없이 페이징된다")
+    @Test
+    void givenArticlesWithHashtags_whenQueryingArticlesHavingAllHashtags_thenReturnsDistinctPage() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("andUser", "pw", "and@mail.com", null, null));
+        Hashtag java = Hashtag.of("and_java");
+        Hashtag spring = Hashtag.of("and_spring");
+        Hashtag jpa = Hashtag.of("and_jpa");
+        for (int i = 0; i < 3; i++) {
+            Article both = Article.of(userAccount, "both" + i, "content");
+            both.addHashtags(Set.of(java, spring, jpa));
+            articleRepository.save(both);
+        }
+        Article javaOnly = Article.of(userAccount, "javaOnly", "content");
+        javaOnly.addHashtag(java);
+        articleRepository.save(javaOnly);
+        entityManager.flush();
+        entityManager.clear();
+
+        Predicate hasAllHashtags = ArticleSearchPredicates.of(SearchType.HASHTAG, "#and_java #and_spring");
+
+        // When
+        Page<Article> firstPage = articleRepository.findArticlePage(hasAllHashtags, PageRequest.of(0, 2, Sort.by("title")));
+        Page<Article> secondPage = articleRepository.findArticlePage(hasAllHashtags, PageRequest.of(1, 2, Sort.by("title")));
+
+        // Then
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent()).extracting(Article::getTitle).containsExactly("both0", "both1");
+        assertThat(secondPage.getContent()).extracting(Article::getTitle).containsExactly("both2");
+    }
+
+    @DisplayName("[Querydsl] 이전/다음 게시글 ID 를 조회하면, 게시글 엔티티를 읽지 않고 한 번의 쿼리로 둘 다 찾는다")
+    @Test
+    void givenArticles_whenQueryingNeighborIds_thenReturnsBothIdsInSingleQuery() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("neighborUser", "pw", "neighbor@mail.com", null, null));
+        Long firstId = articleRepository.save(Article.of(userAccount, "first", "content")).getId();
+        Long middleId = articleRepository.save(Article.of(userAccount, "middle", "content")).getId();
+        Long lastId = articleRepository.save(Article.of(userAccount, "last", "content")).getId();
+        articleRepository.deleteById(middleId);
+        Long currentId = articleRepository.save(Article.of(userAccount, "current", "content")).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        ArticleNeighborIds neighborIds = articleRepository.findNeighborIds(lastId);
+        ArticleNeighborIds newestNeighborIds = articleRepository.findNeighborIds(currentId);
+
+        // Then
+        assertThat(neighborIds.previousArticleId()).isLessThanOrEqualTo(firstId).isNotEqualTo(middleId);
+        assertThat(neighborIds.nextArticleId()).isEqualTo(currentId);
+        assertThat(newestNeighborIds.previousArticleId()).isEqualTo(lastId);
+        assertThat(newestNeighborIds.nextArticleId()).isNull();
+        assertThat(articleRepository.findNeighborIds(Long.MAX_VALUE)).isEqualTo(ArticleNeighborIds.empty());
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @DisplayName("[Querydsl] 마지막 ID 다음부터 나눠 읽으면, count 쿼리 없이 전체 게시글을 ID 순으로 한 번씩 읽는다")
+    @Test
+    void givenArticles_whenReadingSlicesAfterLastId_thenReadsAllArticlesInIdOrderWithoutCount() {
+        // Given
+        long articleCount = articleRepository.count();
+        int size = 100;
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<Long> readIds = new ArrayList<>();
+        int slices = 0;
+        Slice<Article> slice;
+        do {
+            Long lastId = readIds.isEmpty() ? null : readIds.get(readIds.size() - 1);
+            slice = articleRepository.findArticleSliceAfterId(lastId, size);
+            slice.forEach(article -> readIds.add(article.getId()));
+            slices++;
+        } while (slice.hasNext());
+
+        // Then
+        assertThat(readIds).hasSize((int) articleCount).isSorted().doesNotHaveDuplicates();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(slices);
+    }
+
+    @DisplayName("[JDBC] 해시태그를 일괄 저장하면, 없는 이름만 저장하고 기존 해시태그는 그대로 둔다")
+    @Test
+    void givenExistingAndNewHashtagNames_whenInsertingIfAbsent_thenInsertsOnlyNewNames() {
+        // Given
+        Hashtag existingHashtag = hashtagRepository.saveAndFlush(Hashtag.of("bulk_java"));
+        entityManager.clear();
+
+        // When
+        hashtagRepository.insertHashtagNamesIfAbsent(Set.of("bulk_java", "bulk_spring", "벌크"), "eongyu");
+        hashtagRepository.insertHashtagNamesIfAbsent(Set.of("bulk_spring"), "eongyu");
+
+        // Then
+        List<Hashtag> hashtags = hashtagRepository.findByHashtagNameIn(Set.of("bulk_java", "bulk_spring", "벌크"));
+        assertThat(hashtags)
+                .hasSize(3)
+                .allSatisfy(hashtag -> assertThat(hashtag.getCreatedBy()).isEqualTo("eongyu"));
+        assertThat(hashtags)
+                .filteredOn(hashtag -> hashtag.getHashtagName().equals("bulk_java"))
+                .singleElement()
+                .satisfies(hashtag -> {
+                    assertThat(hashtag.getId()).isEqualTo(existingHashtag.getId());
+                    assertThat(hashtag.getCreatedAt()).isEqualTo(existingHashtag.getCreatedAt());
+                });
+    }
+
+    @DisplayName("[native] 게시글과 연결되지 않은 해시태그만 지정하면, 연결된 해시태그는 남기고 나머지만 삭제한다")
+    @Test
+    void givenHashtagIds_whenDeletingHashtagsWithoutArticles_thenDeletesOnlyOrphans() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("orphanUser", "pw", "orphan@mail.com", null, null));
+        Hashtag usedHashtag = Hashtag.of("orphan_used");
+        Article article = Article.of(userAccount, "title", "content");
+        article.addHashtag(usedHashtag);
+        articleRepository.save(article);
+        Hashtag orphanHashtag = hashtagRepository.save(Hashtag.of("orphan_unused"));
+        Hashtag untouchedOrphanHashtag = hashtagRepository.save(Hashtag.of("orphan_untouched"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int deleted = hashtagRepository.deleteHashtagsWithoutArticles(Set.of(usedHashtag.getId(), orphanHashtag.getId()));
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(hashtagRepository.findById(usedHashtag.getId())).isPresent();
+        assertThat(hashtagRepository.findById(orphanHashtag.getId())).isEmpty();
+        assertThat(hashtagRepository.findById(untouchedOrphanHashtag.getId())).isPresent();
+    }
+
+    @DisplayName("첨부파일 상태 컬럼의 기본값은 READY 라서, 상태가 없던 기존 첨부파일은 보이는 상태로 읽힌다")
+    @Test
+    void givenFileStatusSetToColumnDefault_whenLoading_thenStatusIsReady() {
+        // Given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("fileUser", "pw", null, null, null));
+        Article article = articleRepository.save(Article.of(userAccount, "title", "content"));
+        ArticleFile articleFile = ArticleFile.pending(article, "old.jpg", "articles/1/1_uuid.jpg", "https://bucket/articles/1/1_uuid.jpg", 7L, 1, "image/jpeg", null);
+        entityManager.persist(articleFile);
+        entityManager.flush();
+
+        // When
+        entityManager.createNativeQuery("UPDATE article_file SET status = DEFAULT WHERE id = :id")
+                .setParameter("id", articleFile.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // Then
+        assertThat(entityManager.find(ArticleFile.class, articleFile.getId()).getStatus()).isEqualTo(ArticleFileStatus.READY);
+    }
+
     @EnableJpaAuditing
     @TestConfiguration
     public static class TestJpaConfig {
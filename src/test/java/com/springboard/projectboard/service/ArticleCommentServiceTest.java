@@ -6,6 +6,7 @@ import com.springboard.projectboard.domain.Hashtag;
 import com.springboard.projectboard.domain.UserAccount;
 import com.springboard.projectboard.dto.ArticleCommentDto;
 import com.springboard.projectboard.dto.UserAccountDto;
+import com.springboard.projectboard.dto.event.ArticleDetailChangeEvent;
 import com.springboard.projectboard.repository.ArticleCommentRepository;
 import com.springboard.projectboard.repository.ArticleRepository;
 import com.springboard.projectboard.repository.UserAccountRepository;
@@ -15,10 +16,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,6 +44,9 @@ class ArticleCommentServiceTest {
     @Mock
     private UserAccountRepository userAccountRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
 
     @DisplayName("게시글 ID를 조회하면, 해당하는 댓글 리스트를 반환한다.")
     @Test
@@ -78,6 +84,7 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(eventPublisher).should().publishEvent(ArticleDetailChangeEvent.of(dto.articleId()));
     }
 
     @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경고 로그를 찍고 아무것도 안한다.")
@@ -95,6 +102,7 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(userAccountRepository).shouldHaveNoInteractions();
         then(articleCommentRepository).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("댓글 정보를 입력하면, 댓글을 수정한다.")
@@ -140,7 +148,9 @@ class ArticleCommentServiceTest {
         // Given
         Long articleCommentId = 1L;
         String userId = "eongyu";
+        ArticleComment articleComment = createArticleComment("content");
 
+        given(articleCommentRepository.findById(articleCommentId)).willReturn(Optional.of(articleComment));
         willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(articleCommentId, userId);
 
         // When
@@ -148,6 +158,7 @@ class ArticleCommentServiceTest {
 
         // Then
         then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        then(eventPublisher).should().publishEvent(ArticleDetailChangeEvent.of(articleComment.getArticle().getId()));
     }
 
 
@@ -0,0 +1,95 @@
+package com.springboard.projectboard.service;
+
+import com.querydsl.core.types.Predicate;
+import com.springboard.projectboard.config.ArticleCountProperties;
+import com.springboard.projectboard.domain.QArticle;
+import com.springboard.projectboard.domain.constant.ArticleCountMode;
+import com.springboard.projectboard.dto.ArticleCount;
+import com.springboard.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 개수")
+@ExtendWith(MockitoExtension.class)
+class ArticleCountServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @DisplayName("같은 검색어로 TTL 안에 다시 개수를 조회하면, 캐시된 개수를 반환한다.")
+    @Test
+    void givenCachedCount_whenCountingAgainWithinTtl_thenReturnsCachedCount() {
+        // Given
+        ArticleCountService sut = createService(ArticleCountMode.CACHED, Duration.ofMinutes(1), 1000L);
+        Predicate predicate = QArticle.article.title.contains("spring");
+        given(articleRepository.countArticles(predicate, 1000L)).willReturn(42L);
+
+        // When
+        ArticleCount first = sut.countArticles("TITLE", "spring", predicate);
+        ArticleCount second = sut.countArticles("TITLE", " spring ", predicate);
+
+        // Then
+        assertThat(first).isEqualTo(ArticleCount.exact(42L));
+        assertThat(second).isEqualTo(ArticleCount.exact(42L));
+        then(articleRepository).should(times(1)).countArticles(predicate, 1000L);
+    }
+
+    @DisplayName("TTL 이 지난 개수는, 다시 조회한다.")
+    @Test
+    void givenExpiredCount_whenCounting_thenCountsAgain() {
+        // Given
+        ArticleCountService sut = createService(ArticleCountMode.CACHED, Duration.ZERO, 1000L);
+        given(articleRepository.countArticles(null, 1000L)).willReturn(3L, 4L);
+
+        // When
+        ArticleCount first = sut.countArticles(null, null, null);
+        ArticleCount second = sut.countArticles(null, null, null);
+
+        // Then
+        assertThat(first.count()).isEqualTo(3L);
+        assertThat(second.count()).isEqualTo(4L);
+    }
+
+    @DisplayName("개수가 상한을 넘으면, 개수를 지어내지 않고 상한과 함께 상한에 걸렸다고 알려 준다.")
+    @Test
+    void givenCountOverCap_whenCounting_thenReturnsCapWithCappedFlag() {
+        // Given
+        ArticleCountService sut = createService(ArticleCountMode.CACHED, Duration.ofMinutes(1), 1000L);
+        given(articleRepository.countArticles(null, 1000L)).willReturn(1001L);
+
+        // When
+        ArticleCount actual = sut.countArticles(null, null, null);
+
+        // Then
+        assertThat(actual).isEqualTo(ArticleCount.of(1000L, true));
+    }
+
+    @DisplayName("정확한 개수 모드에서는, 캐시 없이 상한 없이 센다.")
+    @Test
+    void givenExactMode_whenCounting_thenCountsWithoutCacheAndCap() {
+        // Given
+        ArticleCountService sut = createService(ArticleCountMode.EXACT, Duration.ofMinutes(1), 1000L);
+        given(articleRepository.countArticles(null, 0)).willReturn(5000L);
+
+        // When
+        sut.countArticles(null, null, null);
+        ArticleCount actual = sut.countArticles(null, null, null);
+
+        // Then
+        assertThat(actual).isEqualTo(ArticleCount.exact(5000L));
+        then(articleRepository).should(times(2)).countArticles(null, 0);
+    }
+
+
+    private ArticleCountService createService(ArticleCountMode mode, Duration ttl, Long cap) {
+        return new ArticleCountService(articleRepository, ArticleCountProperties.of(mode, ttl, cap, 100));
+    }
+}
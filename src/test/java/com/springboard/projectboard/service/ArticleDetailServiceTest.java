@@ -0,0 +1,145 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.config.ArticleDetailCacheProperties;
+import com.springboard.projectboard.dto.ArticleNeighborIds;
+import com.springboard.projectboard.dto.ArticleWithCommentsDto;
+import com.springboard.projectboard.dto.UserAccountDto;
+import com.springboard.projectboard.dto.event.ArticleChangeEvent;
+import com.springboard.projectboard.dto.event.ArticleDetailChangeEvent;
+import com.springboard.projectboard.dto.response.ArticleDetailResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@DisplayName("비즈니스 로직 - 게시글 상세 캐시")
+@ExtendWith(MockitoExtension.class)
+class ArticleDetailServiceTest {
+
+    private ArticleDetailService sut;
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private ArticleFileService articleFileService;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleDetailService(articleService, articleFileService, ArticleDetailCacheProperties.of(Duration.ofMinutes(5), 100));
+    }
+
+    @DisplayName("같은 게시글 상세를 두 번 조회하면, 두 번째는 캐시된 화면 데이터를 반환한다.")
+    @Test
+    void givenArticleId_whenGettingArticleDetailTwice_thenAssemblesOnlyOnce() {
+        // Given
+        Long articleId = 2L;
+        stubArticleDetail(articleId, 1L, 3L);
+
+        // When
+        ArticleDetailResponse first = sut.getArticleDetail(articleId);
+        ArticleDetailResponse second = sut.getArticleDetail(articleId);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.previousArticleId()).isEqualTo(1L);
+        assertThat(first.nextArticleId()).isEqualTo(3L);
+        then(articleService).should().getArticleWithComments(articleId);
+        then(articleFileService).should().getArticleFiles(articleId);
+    }
+
+    @DisplayName("댓글이나 첨부파일이 바뀌면, 그 게시글의 상세 캐시만 비운다.")
+    @Test
+    void givenCachedDetails_whenArticleDetailChanged_thenEvictsOnlyThatArticle() {
+        // Given
+        stubArticleDetail(2L, 1L, 3L);
+        stubArticleDetail(3L, 2L, null);
+        sut.getArticleDetail(2L);
+        sut.getArticleDetail(3L);
+
+        // When
+        sut.onArticleDetailChanged(ArticleDetailChangeEvent.of(2L));
+        sut.getArticleDetail(2L);
+        sut.getArticleDetail(3L);
+
+        // Then
+        then(articleService).should(times(2)).getArticleWithComments(2L);
+        then(articleService).should(times(1)).getArticleWithComments(3L);
+    }
+
+    @DisplayName("새 글이 저장되면, 그 글 때문에 다음 글 ID 가 바뀌는 마지막 글의 상세 캐시도 비운다.")
+    @Test
+    void givenCachedDetails_whenNewArticleSaved_thenEvictsNeighborDetails() {
+        // Given
+        stubArticleDetail(1L, null, 2L);
+        stubArticleDetail(2L, 1L, null);
+        sut.getArticleDetail(1L);
+        sut.getArticleDetail(2L);
+
+        // When
+        sut.onArticleChanged(ArticleChangeEvent.saved(3L));
+        sut.getArticleDetail(1L);
+        sut.getArticleDetail(2L);
+
+        // Then
+        then(articleService).should(times(1)).getArticleWithComments(1L);
+        then(articleService).should(times(2)).getArticleWithComments(2L);
+    }
+
+    @DisplayName("게시글이 삭제되면, 그 글을 이전/다음 글로 가리키던 상세 캐시도 비운다.")
+    @Test
+    void givenCachedDetails_whenArticleDeleted_thenEvictsDetailsPointingToIt() {
+        // Given
+        stubArticleDetail(1L, null, 2L);
+        stubArticleDetail(3L, 2L, 4L);
+        stubArticleDetail(5L, 4L, null);
+        sut.getArticleDetail(1L);
+        sut.getArticleDetail(3L);
+        sut.getArticleDetail(5L);
+
+        // When
+        sut.onArticleChanged(ArticleChangeEvent.deleted(2L));
+        sut.getArticleDetail(1L);
+        sut.getArticleDetail(3L);
+        sut.getArticleDetail(5L);
+
+        // Then
+        then(articleService).should(times(2)).getArticleWithComments(1L);
+        then(articleService).should(times(2)).getArticleWithComments(3L);
+        then(articleService).should(times(1)).getArticleWithComments(5L);
+    }
+
+
+    private void stubArticleDetail(Long articleId, Long previousArticleId, Long nextArticleId) {
+        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto(articleId));
+        given(articleFileService.getArticleFiles(articleId)).willReturn(List.of());
+        given(articleService.getArticleNeighborIds(articleId)).willReturn(ArticleNeighborIds.of(previousArticleId, nextArticleId));
+    }
+
+    private ArticleWithCommentsDto createArticleWithCommentsDto(Long articleId) {
+        return ArticleWithCommentsDto.of(
+                articleId,
+                UserAccountDto.of("eongyu", "pw", "eongyu@mail.com", "Eongyu", "memo", LocalDateTime.now(), "eongyu", LocalDateTime.now(), "eongyu"),
+                Set.of(),
+                "title",
+                "content",
+                Set.of(),
+                LocalDateTime.now(),
+                "eongyu",
+                LocalDateTime.now(),
+                "eongyu"
+        );
+    }
+}
@@ -3,21 +3,31 @@ package com.springboard.projectboard.service;
 import com.springboard.projectboard.domain.Article;
 import com.springboard.projectboard.domain.ArticleFile;
 import com.springboard.projectboard.domain.UserAccount;
+import com.springboard.projectboard.domain.constant.ArticleFileStatus;
+import com.springboard.projectboard.dto.event.ArticleDetailChangeEvent;
+import com.springboard.projectboard.dto.event.ArticleFileUploadEvent;
 import com.springboard.projectboard.repository.ArticleFileRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.persistence.EntityNotFoundException;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,10 +42,13 @@ class ArticleFileServiceTest {
     @Mock private ArticleFileRepository articleFileRepository;
     @Mock private S3FileUploadService s3FileUploadService;
     @Mock private FileValidator fileValidator;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ArticleFileSpool articleFileSpool;
+    @Mock private FileDiskCache fileDiskCache;
 
-    @DisplayName("게시글과 파일 목록이 주어지면, 파일들을 저장한다")
+    @DisplayName("게시글과 파일 목록이 주어지면, 파일들을 받아 두고 업로드 대기 상태로 저장한다")
     @Test
-    void givenArticleAndFiles_whenSavingFiles_thenSavesFiles() {
+    void givenArticleAndFiles_whenSavingFiles_thenSpoolsAndSavesPendingFiles() throws Exception {
         // Given
         Article article = createArticle();
         List<MultipartFile> files = List.of(
@@ -45,15 +58,132 @@ class ArticleFileServiceTest {
 
         given(articleFileRepository.findByArticleIdOrderByDisplayOrderAsc(article.getId())).willReturn(List.of());
         willDoNothing().given(fileValidator).validateFiles(any(), anyInt());
-        given(s3FileUploadService.uploadFile(any(), any(), anyInt())).willReturn("https://test-url.com/file");
+        given(articleFileSpool.spool(any())).willReturn(Path.of("/spool/upload-1.tmp"), Path.of("/spool/upload-2.tmp"));
+        given(s3FileUploadService.createS3Key(article.getId(), 1, "test1.jpg")).willReturn("articles/1/1_uuid.jpg");
+        given(s3FileUploadService.createS3Key(article.getId(), 2, "test2.jpg")).willReturn("articles/1/2_uuid.jpg");
+        given(s3FileUploadService.getUrl(anyString())).willAnswer(invocation ->
+                "https://test-bucket.s3.ap-northeast-2.amazonaws.com/" + invocation.getArgument(0));
+        given(articleFileRepository.save(any(ArticleFile.class))).willAnswer(withGeneratedId());
 
         // When
         sut.saveArticleFiles(article, files);
 
         // Then
+        ArgumentCaptor<ArticleFile> articleFileCaptor = ArgumentCaptor.forClass(ArticleFile.class);
         then(fileValidator).should().validateFiles(files, 0);
-        then(s3FileUploadService).should(times(2)).uploadFile(any(), eq(article.getId()), anyInt());
-        then(articleFileRepository).should(times(2)).save(any(ArticleFile.class));
+        then(articleFileRepository).should(times(2)).save(articleFileCaptor.capture());
+        assertThat(articleFileCaptor.getAllValues())
+                .extracting("originalFileName", "s3Key", "displayOrder", "status", "contentType", "spoolPath")
+                .containsExactly(
+                        tuple("test1.jpg", "articles/1/1_uuid.jpg", 1, ArticleFileStatus.PENDING, "image/jpeg", Path.of("/spool/upload-1.tmp").toString()),
+                        tuple("test2.jpg", "articles/1/2_uuid.jpg", 2, ArticleFileStatus.PENDING, "image/jpeg", Path.of("/spool/upload-2.tmp").toString())
+                );
+        then(s3FileUploadService).should(never()).uploadFile(any(), any(), any());
+        then(eventPublisher).should().publishEvent(ArticleFileUploadEvent.of(
+                article.getId(),
+                List.of(1L, 2L),
+                List.of(Path.of("/spool/upload-1.tmp").toString(), Path.of("/spool/upload-2.tmp").toString())
+        ));
+        then(eventPublisher).should().publishEvent(ArticleDetailChangeEvent.of(article.getId()));
+    }
+
+    @DisplayName("업로드에 실패한 기존 파일은, 개수 제한에 넣지 않고 그 뒤 순서로 새 파일을 붙인다")
+    @Test
+    void givenFailedExistingFile_whenSavingFiles_thenExcludesItFromFileCount() throws Exception {
+        // Given
+        Article article = createArticle();
+        List<MultipartFile> files = List.of(new MockMultipartFile("file1", "test1.jpg", "image/jpeg", "content1".getBytes()));
+        ArticleFile failedFile = createPendingFile();
+        ReflectionTestUtils.setField(failedFile, "displayOrder", 2);
+        failedFile.markFailed();
+
+        given(articleFileRepository.findByArticleIdOrderByDisplayOrderAsc(article.getId())).willReturn(List.of(createArticleFile(), failedFile));
+        given(articleFileSpool.spool(any())).willReturn(Path.of("/spool/upload-1.tmp"));
+        given(s3FileUploadService.createS3Key(article.getId(), 3, "test1.jpg")).willReturn("articles/1/3_uuid.jpg");
+        given(articleFileRepository.save(any(ArticleFile.class))).willAnswer(withGeneratedId());
+
+        // When
+        sut.saveArticleFiles(article, files);
+
+        // Then
+        then(fileValidator).should().validateFiles(files, 1);
+        then(s3FileUploadService).should().createS3Key(article.getId(), 3, "test1.jpg");
+    }
+
+    @DisplayName("파일을 받아 두다 실패하면, 이미 받아 둔 파일을 지우고 예외를 던진다")
+    @Test
+    void givenFailingSpool_whenSavingFiles_thenDeletesSpooledFiles() throws Exception {
+        // Given
+        Article article = createArticle();
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("file1", "test1.jpg", "image/jpeg", "content1".getBytes()),
+                new MockMultipartFile("file2", "test2.jpg", "image/jpeg", "content2".getBytes())
+        );
+
+        given(articleFileRepository.findByArticleIdOrderByDisplayOrderAsc(article.getId())).willReturn(List.of());
+        given(articleFileSpool.spool(any()))
+                .willReturn(Path.of("/spool/upload-1.tmp"))
+                .willThrow(new IOException("disk full"));
+        given(s3FileUploadService.createS3Key(anyLong(), anyInt(), anyString())).willReturn("articles/1/1_uuid.jpg");
+        given(articleFileRepository.save(any(ArticleFile.class))).willAnswer(withGeneratedId());
+
+        // When
+        Throwable t = catchThrowable(() -> sut.saveArticleFiles(article, files));
+
+        // Then
+        assertThat(t).isInstanceOf(RuntimeException.class).hasCauseInstanceOf(IOException.class);
+        then(articleFileSpool).should().delete(Path.of("/spool/upload-1.tmp").toString());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("업로드가 끝난 파일 ID가 주어지면, 보이는 상태로 바꾸고 상세 화면 변경을 알린다")
+    @Test
+    void givenUploadedFileId_whenMarkingUploaded_thenMarksReady() {
+        // Given
+        ArticleFile articleFile = createPendingFile();
+        given(articleFileRepository.findById(1L)).willReturn(Optional.of(articleFile));
+
+        // When
+        boolean marked = sut.markUploaded(1L, null);
+
+        // Then
+        assertThat(marked).isTrue();
+        assertThat(articleFile.isReady()).isTrue();
+        assertThat(articleFile.getSpoolPath()).isNull();
+        assertThat(articleFile.getThumbnailS3Url()).isNull();
+        then(eventPublisher).should().publishEvent(ArticleDetailChangeEvent.of(1L));
+    }
+
+    @DisplayName("썸네일과 함께 업로드가 끝나면, 썸네일 키와 URL 을 기록한다")
+    @Test
+    void givenUploadedFileWithThumbnail_whenMarkingUploaded_thenRecordsThumbnail() {
+        // Given
+        ArticleFile articleFile = createPendingFile();
+        given(articleFileRepository.findById(1L)).willReturn(Optional.of(articleFile));
+        given(s3FileUploadService.getUrl("articles/1/1_uuid_thumb.jpg"))
+                .willReturn("https://test-bucket.s3.amazonaws.com/articles/1/1_uuid_thumb.jpg");
+
+        // When
+        boolean marked = sut.markUploaded(1L, "articles/1/1_uuid_thumb.jpg");
+
+        // Then
+        assertThat(marked).isTrue();
+        assertThat(articleFile.getThumbnailS3Key()).isEqualTo("articles/1/1_uuid_thumb.jpg");
+        assertThat(articleFile.getThumbnailS3Url()).isEqualTo("https://test-bucket.s3.amazonaws.com/articles/1/1_uuid_thumb.jpg");
+    }
+
+    @DisplayName("업로드하는 사이 지워진 파일 ID가 주어지면, false 를 반환한다")
+    @Test
+    void givenDeletedFileId_whenMarkingUploaded_thenReturnsFalse() {
+        // Given
+        given(articleFileRepository.findById(1L)).willReturn(Optional.empty());
+
+        // When
+        boolean marked = sut.markUploaded(1L, null);
+
+        // Then
+        assertThat(marked).isFalse();
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("파일 ID가 주어지면, 파일 정보를 반환한다")
@@ -90,6 +220,35 @@ class ArticleFileServiceTest {
                 .hasMessage("파일을 찾을 수 없습니다: " + fileId);
     }
 
+    @DisplayName("게시글 ID 목록이 주어지면, 파일이 있는 게시글 ID 들을 한 번의 조회로 반환한다")
+    @Test
+    void givenArticleIds_whenGettingArticleIdsWithFiles_thenReturnsArticleIdsHavingFiles() {
+        // Given
+        List<Long> articleIds = List.of(1L, 2L, 3L);
+        given(articleFileRepository.findArticleIdsHavingFiles(articleIds)).willReturn(Set.of(1L, 3L));
+
+        // When
+        Set<Long> actual = sut.getArticleIdsWithFiles(articleIds);
+
+        // Then
+        assertThat(actual).containsExactlyInAnyOrder(1L, 3L);
+        then(articleFileRepository).should().findArticleIdsHavingFiles(articleIds);
+        then(articleFileRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("빈 게시글 ID 목록이 주어지면, 조회 없이 빈 집합을 반환한다")
+    @Test
+    void givenNoArticleIds_whenGettingArticleIdsWithFiles_thenReturnsEmptySetWithoutQuery() {
+        // Given
+
+        // When
+        Set<Long> actual = sut.getArticleIdsWithFiles(List.of());
+
+        // Then
+        assertThat(actual).isEmpty();
+        then(articleFileRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("S3 키가 주어지면, 파일 스트림을 반환한다")
     @Test
     void givenS3Key_whenDownloadingFile_thenReturnsInputStream() {
@@ -123,7 +282,9 @@ class ArticleFileServiceTest {
 
         // Then
         then(s3FileUploadService).should().deleteFile(articleFile.getS3Key());
+        then(fileDiskCache).should().evict(articleFile.getS3Key());
         then(articleFileRepository).should().delete(articleFile);
+        then(eventPublisher).should().publishEvent(ArticleDetailChangeEvent.of(1L));
     }
 
     @DisplayName("게시글 ID가 주어지면, 해당 게시글의 모든 파일을 삭제한다")
@@ -165,4 +326,26 @@ class ArticleFileServiceTest {
                 1
         );
     }
-}
\ No newline at end of file
+
+    private ArticleFile createPendingFile() {
+        return ArticleFile.pending(
+                createArticle(),
+                "test.jpg",
+                "articles/1/1_uuid.jpg",
+                "https://test-bucket.s3.ap-northeast-2.amazonaws.com/articles/1/1_uuid.jpg",
+                1024L,
+                1,
+                "image/jpeg",
+                "/spool/upload-1.tmp"
+        );
+    }
+
+    private Answer<ArticleFile> withGeneratedId() {
+        AtomicLong sequence = new AtomicLong();
+        return invocation -> {
+            ArticleFile articleFile = invocation.getArgument(0);
+            ReflectionTestUtils.setField(articleFile, "id", sequence.incrementAndGet());
+            return articleFile;
+        };
+    }
+}
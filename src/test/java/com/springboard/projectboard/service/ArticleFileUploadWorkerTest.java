@@ -0,0 +1,194 @@
+package com.springboard.projectboard.service;
+
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.springboard.projectboard.config.S3UploadProperties;
+import com.springboard.projectboard.config.ThumbnailProperties;
+import com.springboard.projectboard.domain.Article;
+import com.springboard.projectboard.domain.ArticleFile;
+import com.springboard.projectboard.domain.UserAccount;
+import com.springboard.projectboard.dto.event.ArticleFileUploadEvent;
+import com.springboard.projectboard.util.LocalAmazonS3;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 첨부파일 비동기 업로드")
+@ExtendWith(MockitoExtension.class)
+class ArticleFileUploadWorkerTest {
+
+    private static final String S3_KEY = "articles/1/1_uuid.jpg";
+    private static final String THUMBNAIL_S3_KEY = "articles/1/1_uuid_thumb.jpg";
+
+    private ArticleFileUploadWorker sut;
+
+    @Mock private ArticleFileService articleFileService;
+
+    private LocalAmazonS3 amazonS3;
+    private TransferManager transferManager;
+
+    @TempDir
+    Path spoolDirectory;
+
+    @BeforeEach
+    void setUp() {
+        S3UploadProperties uploadProperties = S3UploadProperties.of(
+                null, null, null, spoolDirectory.toString(), 1, 3, Duration.ofMillis(10), null, null
+        );
+        amazonS3 = new LocalAmazonS3();
+        transferManager = TransferManagerBuilder.standard().withS3Client(amazonS3).build();
+        S3FileUploadService s3FileUploadService = new S3FileUploadService(amazonS3, transferManager);
+        ReflectionTestUtils.setField(s3FileUploadService, "bucketName", "test-bucket");
+
+        sut = new ArticleFileUploadWorker(
+                articleFileService,
+                s3FileUploadService,
+                new ArticleFileSpool(uploadProperties),
+                new ThumbnailGenerator(ThumbnailProperties.of(null, null, null, null)),
+                uploadProperties
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+        transferManager.shutdownNow(false);
+    }
+
+    @DisplayName("업로드 대기 중인 첨부파일이 커밋되면, S3 에 올리고 보이는 상태로 바꾼다")
+    @Test
+    void givenPendingFile_whenFilesCommitted_thenUploadsAndMarksUploaded() throws Exception {
+        // Given
+        Path spoolPath = Files.write(spoolDirectory.resolve("upload-1.tmp"), "content".getBytes());
+        given(articleFileService.findPendingFile(1L)).willReturn(Optional.of(createPendingFile(spoolPath)));
+        given(articleFileService.markUploaded(1L, null)).willReturn(true);
+
+        // When
+        sut.onArticleFilesSaved(ArticleFileUploadEvent.of(1L, List.of(1L), List.of(spoolPath.toString())));
+
+        // Then
+        then(articleFileService).should(timeout(5000)).markUploaded(1L, null);
+        assertThat(amazonS3.getContent("test-bucket", S3_KEY)).isEqualTo("content".getBytes());
+        then(articleFileService).should(never()).markUploadFailed(any());
+    }
+
+    @DisplayName("첨부파일이 이미지면, 썸네일을 만들어 원본 옆에 올리고 함께 기록한다")
+    @Test
+    void givenImageFile_whenUploading_thenUploadsThumbnail() throws Exception {
+        // Given
+        Path spoolPath = spoolDirectory.resolve("upload-1.tmp");
+        ImageIO.write(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "png", spoolPath.toFile());
+        given(articleFileService.findPendingFile(1L)).willReturn(Optional.of(createPendingFile(spoolPath)));
+        given(articleFileService.markUploaded(1L, THUMBNAIL_S3_KEY)).willReturn(true);
+
+        // When
+        sut.enqueue(1L);
+
+        // Then
+        then(articleFileService).should(timeout(5000)).markUploaded(1L, THUMBNAIL_S3_KEY);
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(amazonS3.getContent("test-bucket", THUMBNAIL_S3_KEY)));
+        assertThat(thumbnail.getWidth()).isEqualTo(400);
+        assertThat(thumbnail.getHeight()).isEqualTo(300);
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @DisplayName("S3 업로드가 잠깐 실패하면, 간격을 두고 다시 시도해서 올린다")
+    @Test
+    void givenTransientS3Failure_whenUploading_thenRetriesAndMarksUploaded() throws Exception {
+        // Given
+        Path spoolPath = Files.write(spoolDirectory.resolve("upload-1.tmp"), "content".getBytes());
+        given(articleFileService.findPendingFile(1L)).willReturn(Optional.of(createPendingFile(spoolPath)));
+        given(articleFileService.markUploaded(1L, null)).willReturn(true);
+        amazonS3.failNextPuts(2);
+
+        // When
+        sut.enqueue(1L);
+
+        // Then
+        then(articleFileService).should(timeout(5000)).markUploaded(1L, null);
+        assertThat(amazonS3.putAttempts()).isEqualTo(3);
+        then(articleFileService).should(never()).markUploadFailed(any());
+    }
+
+    @DisplayName("최대 횟수까지 모두 실패하면, 업로드 실패로 표시하고 받아 둔 파일을 지운다")
+    @Test
+    void givenPersistentS3Failure_whenUploading_thenMarksUploadFailed() throws Exception {
+        // Given
+        Path spoolPath = Files.write(spoolDirectory.resolve("upload-1.tmp"), "content".getBytes());
+        given(articleFileService.findPendingFile(1L)).willReturn(Optional.of(createPendingFile(spoolPath)));
+        amazonS3.failNextPuts(Integer.MAX_VALUE);
+
+        // When
+        sut.enqueue(1L);
+
+        // Then
+        then(articleFileService).should(timeout(5000)).markUploadFailed(1L);
+        assertThat(amazonS3.putAttempts()).isEqualTo(3);
+        then(articleFileService).should(never()).markUploaded(any(), any());
+    }
+
+    @DisplayName("받아 둔 파일이 없으면, 업로드하지 않고 실패로 표시한다")
+    @Test
+    void givenMissingSpoolFile_whenUploading_thenMarksUploadFailed() {
+        // Given
+        given(articleFileService.findPendingFile(1L))
+                .willReturn(Optional.of(createPendingFile(spoolDirectory.resolve("missing.tmp"))));
+
+        // When
+        sut.enqueue(1L);
+
+        // Then
+        then(articleFileService).should(timeout(5000)).markUploadFailed(1L);
+        assertThat(amazonS3.putAttempts()).isZero();
+    }
+
+    @DisplayName("첨부파일 저장이 롤백되면, 받아 둔 파일을 지운다")
+    @Test
+    void givenRolledBackFiles_whenRollingBack_thenDeletesSpooledFiles() throws Exception {
+        // Given
+        Path spoolPath = Files.write(spoolDirectory.resolve("upload-1.tmp"), "content".getBytes());
+
+        // When
+        sut.onArticleFilesRolledBack(ArticleFileUploadEvent.of(1L, List.of(1L), List.of(spoolPath.toString())));
+
+        // Then
+        assertThat(spoolPath).doesNotExist();
+        then(articleFileService).shouldHaveNoInteractions();
+    }
+
+    private ArticleFile createPendingFile(Path spoolPath) {
+        Article article = Article.of(UserAccount.of("eongyu", "pw", "test@email.com", "Eongyu", "memo"), "title", "content");
+        ReflectionTestUtils.setField(article, "id", 1L);
+        return ArticleFile.pending(
+                article,
+                "test.jpg",
+                S3_KEY,
+                "https://test-bucket.s3.local/" + S3_KEY,
+                7L,
+                1,
+                "image/jpeg",
+                spoolPath.toString()
+        );
+    }
+}
@@ -2,15 +2,28 @@ package com.springboard.projectboard.service;
 
 import com.springboard.projectboard.domain.Article;
 import com.springboard.projectboard.domain.Hashtag;
+import com.springboard.projectboard.domain.QArticle;
+import com.springboard.projectboard.domain.QHashtag;
 import com.springboard.projectboard.domain.UserAccount;
 import com.springboard.projectboard.domain.constant.SearchType;
+import com.springboard.projectboard.dto.ArticleCount;
+import com.springboard.projectboard.dto.ArticleCursor;
+import com.springboard.projectboard.dto.ArticleCursorPage;
 import com.springboard.projectboard.dto.ArticleDto;
+import com.springboard.projectboard.dto.ArticleNeighborIds;
+import com.springboard.projectboard.dto.ArticleSummaryDto;
 import com.springboard.projectboard.dto.ArticleWithCommentsDto;
+import com.springboard.projectboard.dto.CountCappedPage;
 import com.springboard.projectboard.dto.HashtagDto;
 import com.springboard.projectboard.dto.UserAccountDto;
+import com.springboard.projectboard.dto.event.ArticleChangeEvent;
+import com.springboard.projectboard.dto.event.ArticleHashtagChangeEvent;
 import com.springboard.projectboard.repository.ArticleRepository;
-import com.springboard.projectboard.repository.HashtagRepository;
 import com.springboard.projectboard.repository.UserAccountRepository;
+import com.springboard.projectboard.service.search.ArticleSearchEngine;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.JPAExpressions;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,10 +31,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
@@ -29,7 +48,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -52,11 +73,23 @@ class ArticleServiceTest {
     private UserAccountRepository userAccountRepository;
 
     @Mock
-    private HashtagRepository hashtagRepository;
+    private HashtagDictionary hashtagDictionary;
 
     @Mock
     private ArticleFileService articleFileService;
 
+    @Mock
+    private ArticleCountService articleCountService;
+
+    @Mock
+    private ObjectProvider<ArticleSearchEngine> articleSearchEngineProvider;
+
+    @Mock
+    private ArticleSearchEngine articleSearchEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
@@ -64,14 +97,14 @@ class ArticleServiceTest {
 
         // Given
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.findArticlePage(null, pageable)).willReturn(Page.empty());
 
         // When
         Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findArticlePage(null, pageable);
     }
 
     @DisplayName("검색어와 함께 게시글을 검색하면, 게시글 페이지를 반환한다.")
@@ -82,14 +115,286 @@ class ArticleServiceTest {
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
 
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        Predicate titleContainsKeyword = QArticle.article.title.contains(searchKeyword);
+
+        given(articleRepository.findArticlePage(titleContainsKeyword, pageable)).willReturn(Page.empty());
 
         // When
         Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should().findArticlePage(titleContainsKeyword, pageable);
+    }
+
+    @DisplayName("해석하면 조건이 남지 않는 검색어로 제목을 검색하면, 전체 글 대신 입력한 그대로 포함한 게시글을 찾는다.")
+    @Test
+    void givenKeywordParsedToNothing_whenSearchingArticles_thenSearchesRawKeyword() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        Predicate titleContainsRawKeyword = QArticle.article.title.contains("OR");
+
+        given(articleRepository.findArticlePage(titleContainsRawKeyword, pageable)).willReturn(Page.empty());
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.TITLE, " OR ", pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findArticlePage(titleContainsRawKeyword, pageable);
+    }
+
+    @DisplayName("해석하면 조건이 남지 않는 검색어로 해시태그를 검색하면, 입력한 그대로의 해시태그가 달린 게시글을 찾는다.")
+    @Test
+    void givenHashtagKeywordParsedToNothing_whenSearchingArticles_thenSearchesRawHashtag() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        Predicate hasRawHashtag = QArticle.article.hashtags.any().hashtagName.eq("\"\"");
+
+        given(articleRepository.findArticlePage(hasRawHashtag, pageable)).willReturn(Page.empty());
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.HASHTAG, "\"\"", pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findArticlePage(hasRawHashtag, pageable);
+    }
+
+    @DisplayName("해시태그 여러 개로 검색하면, 해시태그가 모두 달린 게시글을 GROUP BY/HAVING 서브쿼리로 찾는다.")
+    @Test
+    void givenMultipleHashtags_whenSearchingArticles_thenSearchesArticlesHavingAllHashtags() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        QArticle taggedArticle = new QArticle("taggedArticle");
+        QHashtag hashtag = QHashtag.hashtag;
+        Predicate hasAllHashtags = QArticle.article.id.in(JPAExpressions.select(taggedArticle.id)
+                .from(taggedArticle)
+                .innerJoin(taggedArticle.hashtags, hashtag)
+                .where(hashtag.hashtagName.in(Set.of("java", "spring")))
+                .groupBy(taggedArticle.id)
+                .having(hashtag.id.countDistinct().eq(2L)));
+
+        given(articleRepository.findArticlePage(hasAllHashtags, pageable)).willReturn(Page.empty());
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.HASHTAG, "java #spring", pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findArticlePage(hasAllHashtags, pageable);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("해시태그를 OR 로 묶고 제외 해시태그를 주면, 하나라도 달리고 제외 해시태그는 없는 게시글을 찾는다.")
+    @Test
+    void givenOrHashtagsAndExcludedHashtag_whenSearchingArticles_thenSearchesArticlesHavingAnyHashtagWithoutExcluded() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        QArticle article = QArticle.article;
+        Predicate hasAnyHashtagWithoutExcluded = ExpressionUtils.allOf(
+                article.hashtags.any().hashtagName.in(List.of("java", "kotlin")),
+                article.hashtags.any().hashtagName.in(List.of("spring")).not()
+        );
+
+        given(articleRepository.findArticlePage(hasAnyHashtagWithoutExcluded, pageable)).willReturn(Page.empty());
+
+        // When
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.HASHTAG, "java | kotlin -spring", pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findArticlePage(hasAnyHashtagWithoutExcluded, pageable);
+    }
+
+    @DisplayName("검색어 없이 게시글 요약을 검색하면, 조건 없이 요약 페이지를 반환한다.")
+    @Test
+    void givenNoSearchParameters_whenSearchingArticleSummaries_thenReturnsArticleSummaryPage() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleRepository.findArticleSummaries(eq(null), eq(pageable), any())).willReturn(Page.empty());
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticleSummaries(null, null, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findArticleSummaries(eq(null), eq(pageable), any());
+    }
+
+    @DisplayName("검색어와 함께 게시글 요약을 검색하면, 검색 조건이 적용된 요약 페이지를 반환한다.")
+    @Test
+    void givenSearchParameters_whenSearchingArticleSummaries_thenReturnsArticleSummaryPage() {
+        // Given
+        String searchKeyword = "nick";
+        Pageable pageable = Pageable.ofSize(20);
+        Predicate nicknameContainsKeyword = QArticle.article.userAccount.nickname.contains(searchKeyword);
+        ArticleSummaryDto summary = ArticleSummaryDto.of(1L, "title", "content", Set.of("java"), LocalDateTime.now(), "eongyu", "eongyu@mail.com", "nickname");
+
+        given(articleRepository.findArticleSummaries(eq(nicknameContainsKeyword), eq(pageable), any())).willReturn(new PageImpl<>(List.of(summary), pageable, 1));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticleSummaries(SearchType.NICKNAME, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).containsExactly(summary);
+        then(articleRepository).should().findArticleSummaries(eq(nicknameContainsKeyword), eq(pageable), any());
+    }
+
+    @DisplayName("검색 엔진이 지원하는 검색 유형이면, 검색 엔진의 관련도 순서대로 게시글 요약 페이지를 반환한다.")
+    @Test
+    void givenSearchEngineSupportedType_whenSearchingArticleSummaries_thenReturnsSummariesInRelevanceOrder() {
+        // Given
+        String searchKeyword = "스프링";
+        Pageable pageable = Pageable.ofSize(20);
+        List<ArticleSummaryDto> summaries = List.of(
+                ArticleSummaryDto.of(3L, "스프링 부트", "content", Set.of(), LocalDateTime.now(), "eongyu", "eongyu@mail.com", "nickname"),
+                ArticleSummaryDto.of(1L, "스프링", "content", Set.of(), LocalDateTime.now(), "eongyu", "eongyu@mail.com", "nickname")
+        );
+        given(articleSearchEngineProvider.getIfAvailable()).willReturn(articleSearchEngine);
+        given(articleSearchEngine.supports(SearchType.TITLE)).willReturn(true);
+        given(articleSearchEngine.searchArticleIds(SearchType.TITLE, searchKeyword, pageable)).willReturn(new PageImpl<>(List.of(3L, 1L), pageable, 2));
+        given(articleRepository.findArticleSummariesByIds(List.of(3L, 1L))).willReturn(summaries);
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticleSummaries(SearchType.TITLE, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getContent()).extracting(ArticleSummaryDto::id).containsExactly(3L, 1L);
+        assertThat(articles.getTotalElements()).isEqualTo(2);
+        then(articleRepository).should().findArticleSummariesByIds(List.of(3L, 1L));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("개수가 상한에 걸리면, 개수를 지어내지 않고 상한에 걸린 페이지로 다음 페이지가 있다고 알려 준다.")
+    @Test
+    void givenCappedCount_whenSearchingArticleSummaries_thenReturnsCappedPage() {
+        // Given
+        Pageable pageable = PageRequest.of(99, 10);
+        List<ArticleSummaryDto> fullPage = LongStream.rangeClosed(1, 10).mapToObj(this::createArticleSummaryDto).toList();
+        given(articleCountService.countArticles(null, null, null)).willReturn(ArticleCount.of(1000L, true));
+        given(articleRepository.findArticleSummaries(eq(null), eq(pageable), any())).willAnswer(invocation ->
+                new PageImpl<>(fullPage, pageable, invocation.<LongSupplier>getArgument(2).getAsLong())
+        );
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticleSummaries(null, null, pageable);
+
+        // Then
+        assertThat(articles).isInstanceOfSatisfying(CountCappedPage.class, page -> assertThat(page.isTotalCapped()).isTrue());
+        assertThat(articles.getTotalElements()).isEqualTo(1000L);
+        assertThat(articles.getTotalPages()).isEqualTo(100);
+        assertThat(articles.hasNext()).isTrue();
+    }
+
+    @DisplayName("개수 조회 없이(slice) 게시글 요약을 검색하면, 다음 페이지까지만 아는 페이지를 반환한다.")
+    @Test
+    void givenSliceMode_whenSearchingArticleSummaries_thenReturnsPageWithoutCounting() {
+        // Given
+        Pageable pageable = PageRequest.of(2, 1);
+        ArticleSummaryDto summary = ArticleSummaryDto.of(1L, "title", "content", Set.of(), LocalDateTime.now(), "eongyu", "eongyu@mail.com", "nickname");
+        given(articleCountService.isSliceMode()).willReturn(true);
+        given(articleRepository.findArticleSummarySlice(null, pageable)).willReturn(new SliceImpl<>(List.of(summary), pageable, true));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticleSummaries(null, null, pageable);
+
+        // Then
+        assertThat(articles).containsExactly(summary);
+        assertThat(articles.getTotalElements()).isEqualTo(4);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleRepository).should().findArticleSummarySlice(null, pageable);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+        then(articleCountService).should(never()).countArticles(any(), any(), any());
+    }
+
+    @DisplayName("검색어 없이 게시글 요약을 해시태그 검색하면, 빈 페이지를 반환한다.")
+    @Test
+    void givenNoSearchParameters_whenSearchingArticleSummariesViaHashtag_thenReturnsEmptyPage() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticleSummariesViaHashtag(" ", pageable);
+
+        // Then
+        assertThat(articles).isEqualTo(Page.empty(pageable));
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("커서 없이 게시글을 조회하면, 최신 글부터 한 페이지와 다음 커서를 반환한다.")
+    @Test
+    void givenNoCursor_whenSearchingArticlesByCursor_thenReturnsFirstPageWithNextCursor() {
+        // Given
+        int size = 2;
+        List<ArticleSummaryDto> rows = List.of(createArticleSummaryDto(3L), createArticleSummaryDto(2L), createArticleSummaryDto(1L));
+        given(articleRepository.findArticleSummariesByCursor(null, null, size + 1)).willReturn(rows);
+
+        // When
+        ArticleCursorPage page = sut.searchArticleSummariesByCursor(null, null, null, size);
+
+        // Then
+        assertThat(page.content()).extracting(ArticleSummaryDto::id).containsExactly(3L, 2L);
+        assertThat(page.hasPrevious()).isFalse();
+        assertThat(ArticleCursor.decode(page.nextCursor()))
+                .isEqualTo(ArticleCursor.of(ArticleCursor.Direction.NEXT, rows.get(1).createdAt(), 2L));
+        then(articleRepository).should().findArticleSummariesByCursor(null, null, size + 1);
+    }
+
+    @DisplayName("이전 방향 커서로 조회하면, 결과를 최신순으로 뒤집어 반환한다.")
+    @Test
+    void givenPreviousCursor_whenSearchingArticlesByCursor_thenReturnsReversedPage() {
+        // Given
+        int size = 2;
+        ArticleCursor cursor = ArticleCursor.of(ArticleCursor.Direction.PREVIOUS, LocalDateTime.now(), 3L);
+        List<ArticleSummaryDto> rows = List.of(createArticleSummaryDto(4L), createArticleSummaryDto(5L));
+        given(articleRepository.findArticleSummariesByCursor(null, cursor, size + 1)).willReturn(rows);
+
+        // When
+        ArticleCursorPage page = sut.searchArticleSummariesByCursor(null, null, cursor.encode(), size);
+
+        // Then
+        assertThat(page.content()).extracting(ArticleSummaryDto::id).containsExactly(5L, 4L);
+        assertThat(page.hasPrevious()).isFalse();
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @DisplayName("이전 방향 커서로 조회한 결과가 비어 있으면, 들어온 위치로 돌아가는 다음 커서를 남긴다.")
+    @Test
+    void givenPreviousCursorWithNoRows_whenSearchingArticlesByCursor_thenKeepsCursorToGoBack() {
+        // Given
+        int size = 2;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ArticleCursor cursor = ArticleCursor.of(ArticleCursor.Direction.PREVIOUS, createdAt, 3L);
+        given(articleRepository.findArticleSummariesByCursor(null, cursor, size + 1)).willReturn(List.of());
+
+        // When
+        ArticleCursorPage page = sut.searchArticleSummariesByCursor(null, null, cursor.encode(), size);
+
+        // Then
+        assertThat(page.content()).isEmpty();
+        assertThat(page.hasPrevious()).isFalse();
+        assertThat(ArticleCursor.decode(page.nextCursor()))
+                .isEqualTo(ArticleCursor.of(ArticleCursor.Direction.NEXT, createdAt, 3L));
+    }
+
+    @DisplayName("다음 방향 커서로 조회한 결과가 비어 있으면, 들어온 위치로 돌아가는 이전 커서를 남긴다.")
+    @Test
+    void givenNextCursorWithNoRows_whenSearchingArticlesByCursor_thenKeepsCursorToGoBack() {
+        // Given
+        int size = 2;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ArticleCursor cursor = ArticleCursor.of(ArticleCursor.Direction.NEXT, createdAt, 3L);
+        given(articleRepository.findArticleSummariesByCursor(null, cursor, size + 1)).willReturn(List.of());
+
+        // When
+        ArticleCursorPage page = sut.searchArticleSummariesByCursor(null, null, cursor.encode(), size);
+
+        // Then
+        assertThat(page.content()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(ArticleCursor.decode(page.previousCursor()))
+                .isEqualTo(ArticleCursor.of(ArticleCursor.Direction.PREVIOUS, createdAt, 3L));
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지를 반환한다.")
@@ -103,7 +408,7 @@ class ArticleServiceTest {
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(hashtagRepository).shouldHaveNoInteractions();
+        then(hashtagService).shouldHaveNoInteractions();
         then(articleRepository).shouldHaveNoInteractions();
     }
 
@@ -255,8 +560,8 @@ class ArticleServiceTest {
 
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.findOrCreateHashtags(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(articleRepository.save(any(Article.class))).willReturn(createArticle());
 
         // When
         sut.saveArticle(dto);
@@ -264,8 +569,32 @@ class ArticleServiceTest {
         // Then
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(hashtagService).should().parseHashtagNames(dto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(hashtagService).should().findOrCreateHashtags(expectedHashtagNames);
+        then(articleRepository).should().save(any(Article.class));
+        then(eventPublisher).should().publishEvent(ArticleChangeEvent.saved(1L));
+        then(eventPublisher).should().publishEvent(ArticleHashtagChangeEvent.added(expectedHashtags));
+    }
+
+    @DisplayName("게시글 정보와 첨부파일을 입력하면, 게시글을 저장하고 같은 트랜잭션에서 첨부파일을 저장한다.")
+    @Test
+    void givenArticleInfoAndFiles_whenSavingArticleWithFiles_thenSavesArticleAndFiles() {
+        // Given
+        ArticleDto dto = createArticleDto();
+        Article savedArticle = createArticle();
+        List<MultipartFile> files = List.of(new MockMultipartFile("files", "test.jpg", "image/jpeg", "content".getBytes()));
+
+        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
+        given(hashtagService.parseHashtagNames(dto.content())).willReturn(Set.of());
+        given(hashtagService.findOrCreateHashtags(Set.of())).willReturn(Set.of());
+        given(articleRepository.save(any(Article.class))).willReturn(savedArticle);
+
+        // When
+        sut.saveArticleWithFiles(dto, files);
+
+        // Then
         then(articleRepository).should().save(any(Article.class));
+        then(articleFileService).should().saveArticleFiles(savedArticle, files);
+        then(eventPublisher).should().publishEvent(ArticleChangeEvent.saved(1L));
     }
 
     @DisplayName("게시글 수정 정보를 입력하면, 게시글을 수정한다.")
@@ -277,14 +606,14 @@ class ArticleServiceTest {
         ArticleDto dto = createArticleDto("새 타이틀", "새 내용");
         Set<String> expectedHashtagNames = Set.of("springboot");
         Set<Hashtag> expectedHashtags = new HashSet<>();
+        expectedHashtags.add(createHashtag(3L, "springboot"));
 
         given(articleRepository.getReferenceById(dto.id())).willReturn(article);
         given(userAccountRepository.findById(dto.userAccountDto().userId())).willReturn(Optional.of(dto.userAccountDto().toEntity()));
         willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
+        willDoNothing().given(hashtagService).deleteHashtagsWithoutArticles(Set.of(1L, 2L));
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
-
+        given(hashtagService.findOrCreateHashtags(expectedHashtagNames)).willReturn(expectedHashtags);
 
         // When
         sut.updateArticle(dto.id(), dto);
@@ -301,9 +630,59 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).should().findById(dto.userAccountDto().userId());
         then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of(1L, 2L));
         then(hashtagService).should().parseHashtagNames(dto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(hashtagService).should().findOrCreateHashtags(expectedHashtagNames);
+    }
+
+    @DisplayName("본문이 그대로인 수정 정보를 입력하면, 해시태그는 건드리지 않고 제목만 수정한다.")
+    @Test
+    void givenUnchangedContent_whenUpdatingArticle_thenSkipsHashtagWork() {
+        // Given
+        Article article = createArticle();
+        ArticleDto dto = createArticleDto("새 타이틀", "content");
+
+        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
+        given(userAccountRepository.findById(dto.userAccountDto().userId())).willReturn(Optional.of(dto.userAccountDto().toEntity()));
+
+        // When
+        sut.updateArticle(dto.id(), dto);
+
+        // Then
+        assertThat(article)
+                .hasFieldOrPropertyWithValue("title", dto.title())
+                .extracting("hashtags", as(InstanceOfAssertFactories.COLLECTION))
+                .hasSize(2);
+        then(articleRepository).should(never()).flush();
+        then(hashtagService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 일부만 바뀐 본문으로 수정하면, 추가된 해시태그만 연결하고 빠진 해시태그만 정리한다.")
+    @Test
+    void givenPartiallyChangedHashtags_whenUpdatingArticle_thenAppliesOnlyHashtagDelta() {
+        // Given
+        Article article = createArticle();
+        ArticleDto dto = createArticleDto("title", "새 내용 #java #boot");
+        Set<String> hashtagNamesInContent = Set.of("java", "boot");
+        Set<Hashtag> addedHashtags = new HashSet<>();
+        addedHashtags.add(createHashtag(3L, "boot"));
+
+        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
+        given(userAccountRepository.findById(dto.userAccountDto().userId())).willReturn(Optional.of(dto.userAccountDto().toEntity()));
+        given(hashtagService.parseHashtagNames(dto.content())).willReturn(hashtagNamesInContent);
+        given(hashtagService.findOrCreateHashtags(Set.of("boot"))).willReturn(addedHashtags);
+
+        // When
+        sut.updateArticle(dto.id(), dto);
+
+        // Then
+        assertThat(article)
+                .extracting("hashtags", as(InstanceOfAssertFactories.COLLECTION))
+                .extracting("hashtagName")
+                .containsExactlyInAnyOrder("java", "boot");
+        then(hashtagService).should().findOrCreateHashtags(Set.of("boot"));
+        then(articleRepository).should().flush();
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of(2L));
     }
 
     @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무것도 하지 않는다.")
@@ -347,7 +726,7 @@ class ArticleServiceTest {
         willDoNothing().given(articleFileService).deleteArticleFiles(articleId);
         willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
         willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
+        willDoNothing().given(hashtagService).deleteHashtagsWithoutArticles(Set.of(1L, 2L));
 
         // When
         sut.deleteArticle(1L, userId);
@@ -357,7 +736,7 @@ class ArticleServiceTest {
         then(articleFileService).should().deleteArticleFiles(articleId);
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
         then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of(1L, 2L));
     }
 
     @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다.")
@@ -375,92 +754,68 @@ class ArticleServiceTest {
         then(articleRepository).should().count();
     }
 
-    @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다.")
+    @DisplayName("해시태그를 조회하면, 해시태그 사전의 유니크 해시태그 리스트를 반환한다.")
     @Test
     void givenNothing_whenCalling_thenReturnsHashtags() {
         // Given
-        Article article = createArticle();
         List<String> expectedHashtags = List.of("java", "spring", "boot");
 
-        given(hashtagRepository.findAllHashtagNames()).willReturn(expectedHashtags);
+        given(hashtagDictionary.getHashtagNames()).willReturn(expectedHashtags);
 
         // When
         List<String> actualHashtags = sut.getHashtags();
 
         // Then
         assertThat(actualHashtags).isEqualTo(expectedHashtags);
-        then(hashtagRepository).should().findAllHashtagNames();
+        then(hashtagDictionary).should().getHashtagNames();
     }
 
-    @DisplayName("현재 게시글 ID를 입력하면, 이전 게시글 ID를 반환한다.")
+    @DisplayName("현재 게시글 ID를 입력하면, 이전/다음 게시글 ID를 한 번에 반환한다.")
     @Test
-    void givenCurrentArticleId_whenGettingPreviousArticleId_thenReturnsPreviousArticleId() {
+    void givenCurrentArticleId_whenGettingNeighborIds_thenReturnsPreviousAndNextArticleIds() {
         // Given
         Long currentId = 5L;
-        Long expectedPreviousId = 3L;
-        Article previousArticle = createArticle(expectedPreviousId);
-
-        given(articleRepository.findTopByIdLessThanOrderByIdDesc(currentId)).willReturn(Optional.of(previousArticle));
+        ArticleNeighborIds expected = ArticleNeighborIds.of(3L, 7L);
+        given(articleRepository.findNeighborIds(currentId)).willReturn(expected);
 
         // When
-        Long actualPreviousId = sut.getPreviousArticleId(currentId);
+        ArticleNeighborIds actual = sut.getArticleNeighborIds(currentId);
 
         // Then
-        assertThat(actualPreviousId).isEqualTo(expectedPreviousId);
-        then(articleRepository).should().findTopByIdLessThanOrderByIdDesc(currentId);
-    }
-
-    @DisplayName("현재 게시글이 첫 번째 게시글이면, 이전 게시글 ID로 null을 반환한다.")
-    @Test
-    void givenFirstArticleId_whenGettingPreviousArticleId_thenReturnsNull() {
-        // Given
-        Long currentId = 1L;
-
-        given(articleRepository.findTopByIdLessThanOrderByIdDesc(currentId)).willReturn(Optional.empty());
-
-        // When
-        Long actualPreviousId = sut.getPreviousArticleId(currentId);
-
-        // Then
-        assertThat(actualPreviousId).isNull();
-        then(articleRepository).should().findTopByIdLessThanOrderByIdDesc(currentId);
-    }
-
-    @DisplayName("현재 게시글 ID를 입력하면, 다음 게시글 ID를 반환한다.")
-    @Test
-    void givenCurrentArticleId_whenGettingNextArticleId_thenReturnsNextArticleId() {
-        // Given
-        Long currentId = 5L;
-        Long expectedNextId = 7L;
-        Article nextArticle = createArticle(expectedNextId);
-
-        given(articleRepository.findTopByIdGreaterThanOrderByIdAsc(currentId)).willReturn(Optional.of(nextArticle));
-
-        // When
-        Long actualNextId = sut.getNextArticleId(currentId);
-
-        // Then
-        assertThat(actualNextId).isEqualTo(expectedNextId);
-        then(articleRepository).should().findTopByIdGreaterThanOrderByIdAsc(currentId);
+        assertThat(actual).isEqualTo(expected);
+        then(articleRepository).should().findNeighborIds(currentId);
     }
 
     @DisplayName("현재 게시글이 마지막 게시글이면, 다음 게시글 ID로 null을 반환한다.")
     @Test
-    void givenLastArticleId_whenGettingNextArticleId_thenReturnsNull() {
+    void givenLastArticleId_whenGettingNeighborIds_thenReturnsNullNextId() {
         // Given
         Long currentId = 100L;
-
-        given(articleRepository.findTopByIdGreaterThanOrderByIdAsc(currentId)).willReturn(Optional.empty());
+        given(articleRepository.findNeighborIds(currentId)).willReturn(ArticleNeighborIds.of(99L, null));
 
         // When
-        Long actualNextId = sut.getNextArticleId(currentId);
+        ArticleNeighborIds actual = sut.getArticleNeighborIds(currentId);
 
         // Then
-        assertThat(actualNextId).isNull();
-        then(articleRepository).should().findTopByIdGreaterThanOrderByIdAsc(currentId);
+        assertThat(actual.nextArticleId()).isNull();
+        assertThat(actual.previousArticleId()).isEqualTo(99L);
+        then(articleRepository).should().findNeighborIds(currentId);
     }
 
 
+    private ArticleSummaryDto createArticleSummaryDto(Long id) {
+        return ArticleSummaryDto.of(
+                id,
+                "title",
+                "content",
+                Set.of("java"),
+                LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id),
+                "eongyu",
+                "eongyu@mail.com",
+                "Eongyu"
+        );
+    }
+
     private UserAccount createUserAccount() {
         return createUserAccount("eongyu");
     }
@@ -0,0 +1,169 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.config.FileDiskCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 첨부파일 디스크 캐시")
+class FileDiskCacheTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @DisplayName("처음 받는 파일은 S3 에서 받아 보내면서 캐시에 넣고, 다시 받을 때는 캐시 파일을 연다")
+    @Test
+    void givenSameKey_whenReadingThroughCacheThenOpening_thenServesFromDisk() throws Exception {
+        // Given
+        FileDiskCache sut = createCache(DataSize.ofBytes(100));
+        Optional<FileChannel> firstOpen = sut.openIfCached("articles/1/1_uuid.jpg", 10);
+
+        // When
+        String first = readThrough(sut, "articles/1/1_uuid.jpg", 10, "0123456789");
+        String second = readAll(sut.openIfCached("articles/1/1_uuid.jpg", 10));
+
+        // Then
+        assertThat(firstOpen).isEmpty();
+        assertThat(first).isEqualTo("0123456789");
+        assertThat(second).isEqualTo("0123456789");
+        assertThat(meterRegistry.counter("board.file.disk-cache.requests", "result", "miss").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("board.file.disk-cache.requests", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @DisplayName("전체 크기가 상한을 넘으면, 가장 오래 쓰이지 않은 파일부터 지운다")
+    @Test
+    void givenFullCache_whenAddingFile_thenEvictsLeastRecentlyUsed() throws Exception {
+        // Given
+        FileDiskCache sut = createCache(DataSize.ofBytes(20));
+        readThrough(sut, "a", 10, "aaaaaaaaaa");
+        readThrough(sut, "b", 10, "bbbbbbbbbb");
+        readAll(sut.openIfCached("a", 10)); // a 를 최근에 쓴 것으로 만든다.
+
+        // When
+        readThrough(sut, "c", 10, "cccccccccc");
+
+        // Then
+        assertThat(readAll(sut.openIfCached("a", 10))).isEqualTo("aaaaaaaaaa");
+        assertThat(sut.openIfCached("b", 10)).isEmpty();
+        assertThat(sut.getCurrentSize()).isEqualTo(20);
+        assertThat(meterRegistry.counter("board.file.disk-cache.evictions").count()).isEqualTo(1);
+    }
+
+    @DisplayName("받은 크기가 파일 크기와 다르면, 받은 내용은 그대로 보내고 캐시에 넣지 않는다")
+    @Test
+    void givenTruncatedObject_whenReadingThroughCache_thenDoesNotCache() throws Exception {
+        // Given
+        FileDiskCache sut = createCache(DataSize.ofBytes(100));
+
+        // When
+        String read = readThrough(sut, "articles/1/1_uuid.jpg", 10, "01234");
+
+        // Then
+        assertThat(read).isEqualTo("01234");
+        assertThat(sut.openIfCached("articles/1/1_uuid.jpg", 10)).isEmpty();
+        assertThat(sut.getCurrentSize()).isZero();
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @DisplayName("끝까지 읽기 전에 닫히면, 캐시에 넣지 않고 임시 파일을 지운다")
+    @Test
+    void givenClosedBeforeEnd_whenReadingThroughCache_thenDoesNotCache() throws Exception {
+        // Given
+        FileDiskCache sut = createCache(DataSize.ofBytes(100));
+
+        // When
+        try (InputStream inputStream = sut.cacheWhileReading("articles/1/1_uuid.jpg", 10, toInputStream("0123456789"))) {
+            inputStream.readNBytes(4);
+        }
+
+        // Then
+        assertThat(sut.openIfCached("articles/1/1_uuid.jpg", 10)).isEmpty();
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @DisplayName("캐시 상한보다 큰 파일은, 캐시하지 않는다")
+    @Test
+    void givenFileLargerThanLimit_whenReadingThroughCache_thenSkipsCache() {
+        // Given
+        FileDiskCache sut = createCache(DataSize.ofBytes(100));
+        long fileSize = DataSize.ofMegabytes(11).toBytes();
+        InputStream source = toInputStream("0123456789");
+
+        // When
+        InputStream inputStream = sut.cacheWhileReading("articles/1/1_uuid.jpg", fileSize, source);
+
+        // Then
+        assertThat(inputStream).isSameAs(source);
+        assertThat(sut.openIfCached("articles/1/1_uuid.jpg", fileSize)).isEmpty();
+    }
+
+    @DisplayName("서버가 시작하면, 캐시 디렉터리에서 캐시가 만든 파일만 지운다")
+    @Test
+    void givenLeftoverFiles_whenStarting_thenDeletesOnlyCacheFiles() throws Exception {
+        // Given
+        Path cachedFile = Files.writeString(cacheDirectory.resolve("0123456789abcdef0123456789abcdef"), "cached");
+        Path tempFile = Files.writeString(cacheDirectory.resolve("fill-12345.tmp"), "partial");
+        Path unrelatedFile = Files.writeString(cacheDirectory.resolve("application.log"), "log");
+
+        // When
+        createCache(DataSize.ofBytes(100));
+
+        // Then
+        assertThat(cachedFile).doesNotExist();
+        assertThat(tempFile).doesNotExist();
+        assertThat(unrelatedFile).exists();
+    }
+
+    private FileDiskCache createCache(DataSize maxSize) {
+        return new FileDiskCache(
+                FileDiskCacheProperties.of(true, cacheDirectory.toString(), maxSize, null),
+                meterRegistry
+        );
+    }
+
+    private String readThrough(FileDiskCache sut, String s3Key, long fileSize, String content) throws IOException {
+        try (InputStream inputStream = sut.cacheWhileReading(s3Key, fileSize, toInputStream(content))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private InputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String readAll(Optional<FileChannel> opened) throws IOException {
+        assertThat(opened).isPresent();
+        try (FileChannel channel = opened.get()) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            channel.read(buffer, 0);
+            return new String(buffer.array(), StandardCharsets.UTF_8);
+        }
+    }
+}
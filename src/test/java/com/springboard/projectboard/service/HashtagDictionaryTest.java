@@ -0,0 +1,149 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.dto.HashtagDto;
+import com.springboard.projectboard.dto.HashtagUsageDto;
+import com.springboard.projectboard.dto.event.ArticleHashtagChangeEvent;
+import com.springboard.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("비즈니스 로직 - 해시태그 사전")
+@ExtendWith(MockitoExtension.class)
+class HashtagDictionaryTest {
+
+    private HashtagDictionary sut;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    private final List<Runnable> suggestIndexTasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        sut = new HashtagDictionary(hashtagRepository, suggestIndexTasks::add);
+    }
+
+    @DisplayName("해시태그 이름을 여러 번 조회하면, DB 는 처음 한 번만 읽고 사용 게시글이 많은 순서로 반환한다.")
+    @Test
+    void givenNothing_whenGettingHashtagNamesTwice_thenLoadsOnceAndReturnsNamesByPopularity() {
+        // Given
+        given(hashtagRepository.findAllHashtagUsages()).willReturn(List.of(
+                HashtagUsageDto.of(1L, "java", 2L),
+                HashtagUsageDto.of(2L, "spring", 5L),
+                HashtagUsageDto.of(3L, "orphan", 0L),
+                HashtagUsageDto.of(4L, "boot", 2L)
+        ));
+
+        // When
+        sut.getHashtagNames();
+        List<String> actual = sut.getHashtagNames();
+
+        // Then
+        assertThat(actual).containsExactly("spring", "boot", "java");
+        then(hashtagRepository).should().findAllHashtagUsages();
+    }
+
+    @DisplayName("접두어로 찾으면, 그 접두어로 시작하는 해시태그만 사용 게시글이 많은 순서로 반환한다.")
+    @Test
+    void givenPrefix_whenFindingByPrefix_thenReturnsMatchingHashtagsByPopularity() {
+        // Given
+        given(hashtagRepository.findAllHashtagUsages()).willReturn(List.of(
+                HashtagUsageDto.of(1L, "java", 2L),
+                HashtagUsageDto.of(2L, "javascript", 7L),
+                HashtagUsageDto.of(3L, "jpa", 9L),
+                HashtagUsageDto.of(4L, "spring", 1L)
+        ));
+
+        // When
+        List<HashtagUsageDto> actual = sut.findByPrefix("ja", 10);
+
+        // Then
+        assertThat(actual).extracting(HashtagUsageDto::hashtagName).containsExactly("javascript", "java");
+    }
+
+    @DisplayName("게시글 해시태그 변경 이벤트를 받으면, DB 를 다시 읽지 않고 사용 게시글 수만 갱신한다.")
+    @Test
+    void givenHashtagChangeEvent_whenHandling_thenUpdatesCountsInPlace() {
+        // Given
+        given(hashtagRepository.findAllHashtagUsages()).willReturn(List.of(
+                HashtagUsageDto.of(1L, "java", 1L),
+                HashtagUsageDto.of(2L, "spring", 3L)
+        ));
+        sut.getHashtagNames();
+        ArticleHashtagChangeEvent event = new ArticleHashtagChangeEvent(
+                Set.of(createHashtagDto(2L, "spring"), createHashtagDto(3L, "boot")),
+                Set.of(createHashtagDto(1L, "java"))
+        );
+
+        // When
+        sut.onArticleHashtagsChanged(event);
+
+        // Then
+        assertThat(sut.getPopularHashtags(10)).containsExactly(
+                HashtagUsageDto.of(2L, "spring", 4L),
+                HashtagUsageDto.of(3L, "boot", 1L)
+        );
+        then(hashtagRepository).should().findAllHashtagUsages();
+    }
+
+    @DisplayName("사전이 바뀌면, 새 자동완성 색인을 만들 때까지 이전 색인으로 답하고 만든 뒤에는 새 사용 수로 답한다.")
+    @Test
+    void givenHashtagChangeEvent_whenFindingByPrefix_thenServesPreviousIndexUntilRebuilt() {
+        // Given
+        given(hashtagRepository.findAllHashtagUsages()).willReturn(List.of(
+                HashtagUsageDto.of(1L, "java", 2L),
+                HashtagUsageDto.of(2L, "javascript", 1L)
+        ));
+        sut.findByPrefix("ja", 10);
+        ArticleHashtagChangeEvent event = new ArticleHashtagChangeEvent(
+                Set.of(createHashtagDto(2L, "javascript"), createHashtagDto(3L, "jakarta")),
+                Set.of()
+        );
+        sut.onArticleHashtagsChanged(event);
+        sut.onArticleHashtagsChanged(event);
+
+        // When
+        List<HashtagUsageDto> beforeRebuild = sut.findByPrefix("ja", 10);
+        suggestIndexTasks.forEach(Runnable::run);
+        List<HashtagUsageDto> afterRebuild = sut.findByPrefix("ja", 10);
+
+        // Then
+        assertThat(suggestIndexTasks).hasSize(1);
+        assertThat(beforeRebuild).extracting(HashtagUsageDto::hashtagName).containsExactly("java", "javascript");
+        assertThat(afterRebuild).containsExactly(
+                HashtagUsageDto.of(2L, "javascript", 3L),
+                HashtagUsageDto.of(3L, "jakarta", 2L),
+                HashtagUsageDto.of(1L, "java", 2L)
+        );
+    }
+
+    @DisplayName("사전을 읽기 전에 이벤트를 받으면, 무시하고 나중에 DB 에서 읽는다.")
+    @Test
+    void givenNotLoadedDictionary_whenHandlingEvent_thenIgnoresEvent() {
+        // Given
+        ArticleHashtagChangeEvent event = new ArticleHashtagChangeEvent(Set.of(createHashtagDto(1L, "java")), Set.of());
+
+        // When
+        sut.onArticleHashtagsChanged(event);
+
+        // Then
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+
+    private HashtagDto createHashtagDto(Long id, String hashtagName) {
+        return HashtagDto.of(id, hashtagName, null, null, null, null);
+    }
+}
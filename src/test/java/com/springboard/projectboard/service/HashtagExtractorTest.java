@@ -0,0 +1,46 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.util.RandomFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("해시태그 추출기")
+class HashtagExtractorTest {
+
+    private static final String ALPHABET = "#ab_Z09가힣각 -.,#\n~ㄱé";
+    private static final long SEED = 20_240_801L;
+
+    @DisplayName("임의의 본문에서, 스캐너와 정규식이 같은 해시태그를 추출한다.")
+    @RepeatedTest(50)
+    void givenRandomContent_whenExtracting_thenMatchesPatternResult(RepetitionInfo repetitionInfo) {
+        // Given
+        RandomFixture random = RandomFixture.forRepetition(SEED, repetitionInfo);
+        String content = random.string(ALPHABET, 200);
+
+        // When
+        Set<String> actual = HashtagExtractor.extract(content);
+
+        // Then
+        assertThat(actual).as("%s, content: %s", random, content).isEqualTo(HashtagExtractor.extractByPattern(content));
+    }
+
+    @DisplayName("추출한 해시태그 목록은 수정할 수 없다.")
+    @Test
+    void givenContent_whenExtracting_thenReturnsUnmodifiableSet() {
+        // Given
+        Set<String> hashtagNames = HashtagExtractor.extract("#java #스프링");
+
+        // When
+        Throwable t = catchThrowable(() -> hashtagNames.add("boot"));
+
+        // Then
+        assertThat(t).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
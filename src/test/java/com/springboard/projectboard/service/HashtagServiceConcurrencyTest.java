@@ -0,0 +1,103 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.config.HashtagProperties;
+import com.springboard.projectboard.domain.Hashtag;
+import com.springboard.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 트랜잭션이 실제로 커밋되어야 하므로, 테스트 트랜잭션 없이 돌린다.
+ */
+@DisplayName("비즈니스 로직 - 해시태그 동시 생성")
+@Import(HashtagServiceConcurrencyTest.TestJpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DataJpaTest
+class HashtagServiceConcurrencyTest {
+
+    private final HashtagService sut;
+    private final HashtagRepository hashtagRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public HashtagServiceConcurrencyTest(
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired AuditorAware<String> auditorAware,
+            @Autowired PlatformTransactionManager transactionManager
+    ) {
+        this.sut = new HashtagService(hashtagRepository, auditorAware, HashtagProperties.of(false));
+        this.hashtagRepository = hashtagRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ); // MySQL InnoDB 기본값
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashtagRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("다른 트랜잭션이 같은 새 해시태그를 먼저 커밋해도, 해시태그를 빠뜨리지 않고 같은 행을 반환한다")
+    @Test
+    void givenSameNewHashtagCommittedByAnotherTransaction_whenFindingOrCreating_thenReturnsCommittedHashtag() throws Exception {
+        // Given
+        CountDownLatch snapshotTaken = new CountDownLatch(1);
+        CountDownLatch otherCommitted = new CountDownLatch(1);
+        CompletableFuture<Set<Hashtag>> late = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            assertThat(sut.findHashtagsByNames(Set.of("race"))).isEmpty(); // 해시태그가 없는 스냅샷을 잡는다.
+            snapshotTaken.countDown();
+            await(otherCommitted);
+            return sut.findOrCreateHashtags(Set.of("race"));
+        }));
+        await(snapshotTaken);
+
+        // When
+        Set<Hashtag> early = transactionTemplate.execute(status -> sut.findOrCreateHashtags(Set.of("race")));
+        otherCommitted.countDown();
+
+        // Then
+        Set<Hashtag> lateHashtags = late.get(10, TimeUnit.SECONDS);
+        assertThat(early).extracting("hashtagName").containsExactly("race");
+        assertThat(lateHashtags).extracting("id").containsExactlyElementsOf(early.stream().map(Hashtag::getId).toList());
+        assertThat(hashtagRepository.findByHashtagNameIn(Set.of("race"))).hasSize(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    public static class TestJpaConfig {
+
+        @Bean
+        public AuditorAware<String> auditorAware() {
+            return () -> Optional.of("eongyu");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.springboard.projectboard.service;
 
+import com.springboard.projectboard.config.HashtagProperties;
 import com.springboard.projectboard.domain.Article;
 import com.springboard.projectboard.domain.Hashtag;
 import com.springboard.projectboard.domain.UserAccount;
@@ -7,40 +8,48 @@ import com.springboard.projectboard.dto.ArticleDto;
 import com.springboard.projectboard.dto.HashtagDto;
 import com.springboard.projectboard.dto.UserAccountDto;
 import com.springboard.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 
 @DisplayName("비즈니스 로직 - 해시태그")
 @ExtendWith(MockitoExtension.class)
 class HashtagServiceTest {
 
-    @InjectMocks
     private HashtagService sut;
 
     @Mock
     private HashtagRepository hashtagRepository;
 
+    @Mock
+    private AuditorAware<String> auditorAware;
+
+    @BeforeEach
+    void setUp() {
+        sut = new HashtagService(hashtagRepository, auditorAware, HashtagProperties.of(false));
+    }
+
     @DisplayName("본문을 파싱하면, 해시태그 이름들을 중복 없이 반환한다.")
     @MethodSource
     @ParameterizedTest(name = "[{index}] \"{0}\" => {1}")
@@ -116,48 +125,66 @@ class HashtagServiceTest {
         then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
     }
 
-    @DisplayName("게시글과 연결되지 않은 해시태그 ID를 주면, 해시태그를 삭제한다.")
+    @DisplayName("저장된 해시태그만 요청하면, 새로 저장하지 않고 그대로 반환한다.")
     @Test
-    void givenHashtagIdWithoutArticles_whenDeletingHashtag_thenDeletesHashtag() {
+    void givenExistingHashtagNames_whenFindingOrCreatingHashtags_thenReturnsWithoutInserting() {
         // Given
-        Long hashtagId = 1L;
-        Hashtag hashtag = mock(Hashtag.class);
-        ReflectionTestUtils.setField(hashtag, "id", hashtagId);
-        ReflectionTestUtils.setField(hashtag, "hashtagName", "java");
-
-        given(hashtagRepository.getReferenceById(hashtagId)).willReturn(hashtag);
-        given(hashtag.getArticles()).willReturn(Collections.emptySet());
+        Set<String> hashtagNames = Set.of("java");
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(createHashtag("java")));
 
         // When
-        sut.deleteHashtagWithoutArticles(hashtagId);
+        Set<Hashtag> hashtags = sut.findOrCreateHashtags(hashtagNames);
 
         // Then
-        then(hashtagRepository).should().getReferenceById(hashtagId);
-        then(hashtagRepository).should().delete(hashtag);
+        assertThat(hashtags).extracting("hashtagName").containsExactly("java");
+        then(hashtagRepository).should(never()).insertHashtagNamesIfAbsent(any(), any());
     }
 
-    @DisplayName("게시글과 연결된 해시태그 ID를 주면, 해시태그를 삭제하지 않는다.")
+    @DisplayName("없는 해시태그가 섞여 있으면, 없는 것만 한 번에 저장한 뒤 모두 반환한다.")
     @Test
-    void givenHashtagIdWithArticles_whenDeletingHashtag_thenDoesNotDeleteHashtag() {
+    void givenNewHashtagNames_whenFindingOrCreatingHashtags_thenBatchInsertsOnlyMissingNames() {
         // Given
-        Long hashtagId = 2L;
-        Hashtag hashtag = mock(Hashtag.class);
-        ReflectionTestUtils.setField(hashtag, "id", hashtagId);
-        ReflectionTestUtils.setField(hashtag, "hashtagName", "spring");
+        Set<String> hashtagNames = Set.of("java", "spring", "boot");
+        Set<String> newHashtagNames = Set.of("spring", "boot");
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(createHashtag(1L, "java")));
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of("eongyu"));
+        given(hashtagRepository.findForShareByHashtagNameIn(newHashtagNames)).willReturn(List.of(createHashtag(2L, "spring"), createHashtag(3L, "boot")));
+
+        // When
+        Set<Hashtag> hashtags = sut.findOrCreateHashtags(hashtagNames);
+
+        // Then
+        assertThat(hashtags).extracting("hashtagName").containsExactlyInAnyOrder("java", "spring", "boot");
+        then(hashtagRepository).should().insertHashtagNamesIfAbsent(newHashtagNames, "eongyu");
+    }
 
-        Set<Article> articles = Set.of(createArticle());
-        given(hashtagRepository.getReferenceById(hashtagId)).willReturn(hashtag);
-        given(hashtag.getArticles()).willReturn(articles);
+    @DisplayName("해시태그 ID 목록을 주면, 게시글과 연결되지 않은 해시태그를 한 번에 삭제한다.")
+    @Test
+    void givenHashtagIds_whenDeletingHashtagsWithoutArticles_thenDeletesInOneQuery() {
+        // Given
+        Set<Long> hashtagIds = Set.of(1L, 2L);
 
         // When
-        sut.deleteHashtagWithoutArticles(hashtagId);
+        sut.deleteHashtagsWithoutArticles(hashtagIds);
 
         // Then
-        then(hashtagRepository).should().getReferenceById(hashtagId);
-        then(hashtagRepository).should(never()).delete(hashtag);
+        then(hashtagRepository).should().deleteHashtagsWithoutArticles(hashtagIds);
         then(hashtagRepository).shouldHaveNoMoreInteractions();
     }
 
+    @DisplayName("백그라운드 정리 모드에서는, 해시태그를 바로 삭제하지 않는다.")
+    @Test
+    void givenDeferredCleanup_whenDeletingHashtagsWithoutArticles_thenDoesNothing() {
+        // Given
+        sut = new HashtagService(hashtagRepository, auditorAware, HashtagProperties.of(true));
+
+        // When
+        sut.deleteHashtagsWithoutArticles(Set.of(1L, 2L));
+
+        // Then
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
 
     private UserAccount createUserAccount() {
         return createUserAccount("eongyu");
@@ -0,0 +1,80 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.dto.HashtagUsageDto;
+import com.springboard.projectboard.util.RandomFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("해시태그 자동완성 색인")
+class HashtagSuggestIndexTest {
+
+    private static final long SEED = 20_240_915L;
+
+    @DisplayName("접두어를 주면, 그 접두어로 시작하는 해시태그를 사용 게시글이 많은 순서로 반환한다.")
+    @Test
+    void givenPrefix_whenSuggesting_thenReturnsMatchingHashtagsByPopularity() {
+        // Given
+        HashtagSuggestIndex sut = HashtagSuggestIndex.of(List.of(
+                HashtagUsageDto.of(1L, "spring", 3L),
+                HashtagUsageDto.of(2L, "springboot", 8L),
+                HashtagUsageDto.of(3L, "spa", 5L),
+                HashtagUsageDto.of(4L, "sql", 10L),
+                HashtagUsageDto.of(5L, "spring-data", 3L)
+        ));
+
+        // When
+        List<HashtagUsageDto> actual = sut.suggest("spr", 2);
+
+        // Then
+        assertThat(actual).extracting(HashtagUsageDto::hashtagName).containsExactly("springboot", "spring");
+    }
+
+    @DisplayName("일치하는 해시태그가 없거나 개수가 0 이면, 빈 리스트를 반환한다.")
+    @Test
+    void givenNoMatchOrZeroLimit_whenSuggesting_thenReturnsEmptyList() {
+        // Given
+        HashtagSuggestIndex sut = HashtagSuggestIndex.of(List.of(HashtagUsageDto.of(1L, "java", 1L)));
+
+        // When & Then
+        assertThat(sut.suggest("kotlin", 10)).isEmpty();
+        assertThat(sut.suggest("j", 0)).isEmpty();
+        assertThat(HashtagSuggestIndex.of(List.of()).suggest("j", 10)).isEmpty();
+    }
+
+    @DisplayName("접두어 구간의 넓이와 상관없이, 전체를 정렬해서 고른 결과와 같다.")
+    @RepeatedTest(10)
+    void givenRandomHashtags_whenSuggesting_thenEqualsBruteForce(RepetitionInfo repetitionInfo) {
+        // Given
+        RandomFixture random = RandomFixture.forRepetition(SEED, repetitionInfo);
+        Map<String, HashtagUsageDto> usagesByName = new HashMap<>();
+        for (long id = 1; id <= 5_000; id++) {
+            String name = random.string("ab가", 1, 8);
+            usagesByName.putIfAbsent(name, HashtagUsageDto.of(id, name, (long) random.nextInt(100) + 1));
+        }
+        List<HashtagUsageDto> distinctUsages = List.copyOf(usagesByName.values());
+        HashtagSuggestIndex sut = HashtagSuggestIndex.of(distinctUsages);
+
+        for (String prefix : List.of("", "a", "ab", "b가", "zz")) {
+            for (int limit : List.of(10, 25)) {
+                // When
+                List<HashtagUsageDto> actual = sut.suggest(prefix, limit);
+
+                // Then
+                List<HashtagUsageDto> expected = distinctUsages.stream()
+                        .filter(usage -> usage.hashtagName().startsWith(prefix))
+                        .sorted(HashtagDictionary.POPULARITY_ORDER)
+                        .limit(limit)
+                        .toList();
+                assertThat(actual).as("%s, prefix: \"%s\", limit: %d", random, prefix, limit).isEqualTo(expected);
+            }
+        }
+    }
+}
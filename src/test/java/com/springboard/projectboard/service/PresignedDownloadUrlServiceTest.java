@@ -0,0 +1,112 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.config.FileDownloadProperties;
+import com.springboard.projectboard.domain.ArticleFile;
+import com.springboard.projectboard.domain.constant.FileDownloadMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 서명 다운로드 URL")
+@ExtendWith(MockitoExtension.class)
+class PresignedDownloadUrlServiceTest {
+
+    private static final String CONTENT_DISPOSITION = "attachment; filename*=UTF-8''test.jpg";
+
+    @Mock private S3FileUploadService s3FileUploadService;
+
+    @DisplayName("중계 방식이면, 서명 URL 을 만들지 않는다")
+    @Test
+    void givenProxyMode_whenGettingDownloadUrl_thenReturnsEmpty() {
+        // Given
+        PresignedDownloadUrlService sut = createService(FileDownloadMode.PROXY, Duration.ofMinutes(10), Duration.ofMinutes(2));
+
+        // When
+        Optional<String> url = sut.getDownloadUrl(createArticleFile(), CONTENT_DISPOSITION);
+
+        // Then
+        assertThat(url).isEmpty();
+        then(s3FileUploadService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("리다이렉트 방식이면, 만료가 가깝지 않은 동안 같은 파일에 같은 서명 URL 을 다시 쓴다")
+    @Test
+    void givenRedirectMode_whenGettingDownloadUrlTwice_thenReusesPresignedUrl() {
+        // Given
+        PresignedDownloadUrlService sut = createService(FileDownloadMode.REDIRECT, Duration.ofMinutes(10), Duration.ofMinutes(2));
+        ArticleFile articleFile = createArticleFile();
+        given(s3FileUploadService.createPresignedDownloadUrl(eq("articles/1/1_uuid.jpg"), eq(CONTENT_DISPOSITION), any()))
+                .willReturn("https://signed/1");
+
+        // When
+        Optional<String> first = sut.getDownloadUrl(articleFile, CONTENT_DISPOSITION);
+        Optional<String> second = sut.getDownloadUrl(articleFile, CONTENT_DISPOSITION);
+
+        // Then
+        assertThat(first).contains("https://signed/1");
+        assertThat(second).contains("https://signed/1");
+        then(s3FileUploadService).should(times(1)).createPresignedDownloadUrl(any(), any(), any());
+    }
+
+    @DisplayName("캐시한 서명 URL 의 만료가 가까우면, 새로 서명한다")
+    @Test
+    void givenNearlyExpiredUrl_whenGettingDownloadUrl_thenPresignsAgain() throws InterruptedException {
+        // Given
+        PresignedDownloadUrlService sut = createService(FileDownloadMode.REDIRECT, Duration.ofMillis(11), Duration.ofMillis(10));
+        ArticleFile articleFile = createArticleFile();
+        given(s3FileUploadService.createPresignedDownloadUrl(any(), any(), any()))
+                .willReturn("https://signed/1", "https://signed/2");
+
+        // When
+        sut.getDownloadUrl(articleFile, CONTENT_DISPOSITION);
+        Thread.sleep(5); // 서명한 지 1ms 가 지나면 갱신 대상이 된다.
+        Optional<String> renewed = sut.getDownloadUrl(articleFile, CONTENT_DISPOSITION);
+
+        // Then
+        assertThat(renewed).contains("https://signed/2");
+        then(s3FileUploadService).should(times(2)).createPresignedDownloadUrl(any(), any(), any());
+    }
+
+    @DisplayName("서명 URL 갱신 여유가 유효 시간 이상이면, 다운로드 설정을 만들 수 없다")
+    @Test
+    void givenRenewBeforeNotShorterThanTtl_whenCreatingProperties_thenThrowsException() {
+        // Given
+        Duration ttl = Duration.ofMinutes(10);
+
+        // When & Then
+        assertThatThrownBy(() -> FileDownloadProperties.of(FileDownloadMode.REDIRECT, ttl, ttl, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("presigned-url-renew-before");
+    }
+
+    private PresignedDownloadUrlService createService(FileDownloadMode mode, Duration ttl, Duration renewBefore) {
+        return new PresignedDownloadUrlService(
+                s3FileUploadService,
+                FileDownloadProperties.of(mode, ttl, renewBefore, null)
+        );
+    }
+
+    private ArticleFile createArticleFile() {
+        ArticleFile articleFile = ArticleFile.of(
+                null,
+                "test.jpg",
+                "articles/1/1_uuid.jpg",
+                "https://test-bucket.s3.ap-northeast-2.amazonaws.com/articles/1/1_uuid.jpg",
+                1024L,
+                1
+        );
+        ReflectionTestUtils.setField(articleFile, "id", 1L);
+        return articleFile;
+    }
+}
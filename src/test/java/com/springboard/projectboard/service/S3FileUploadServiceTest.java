@@ -0,0 +1,127 @@
+package com.springboard.projectboard.service;
+
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.springboard.projectboard.util.LocalAmazonS3;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DisplayName("비즈니스 로직 - S3 업로드")
+class S3FileUploadServiceTest {
+
+    private S3FileUploadService sut;
+
+    private LocalAmazonS3 amazonS3;
+    private TransferManager transferManager;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = new LocalAmazonS3();
+        transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .build();
+        sut = new S3FileUploadService(amazonS3, transferManager);
+        ReflectionTestUtils.setField(sut, "bucketName", "test-bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferManager.shutdownNow(false);
+    }
+
+    @DisplayName("게시글 ID와 표시 순서, 파일명이 주어지면, 확장자를 유지한 S3 키를 만든다.")
+    @Test
+    void givenArticleIdAndFileName_whenCreatingS3Key_thenReturnsKeyWithExtension() {
+        // Given
+
+        // When
+        String s3Key = sut.createS3Key(1L, 3, "photo.png");
+
+        // Then
+        assertThat(s3Key).startsWith("articles/1/3_").endsWith(".png");
+        assertThat(sut.getUrl(s3Key)).isEqualTo("https://test-bucket.s3.local/" + s3Key);
+    }
+
+    @DisplayName("원본 S3 키가 주어지면, 같은 위치에 둘 JPEG 썸네일 키를 만든다.")
+    @Test
+    void givenS3Key_whenCreatingThumbnailKey_thenReturnsSiblingJpegKey() {
+        // Given
+
+        // When
+        String thumbnailKey = sut.createThumbnailKey("articles/1/3_uuid.png");
+
+        // Then
+        assertThat(thumbnailKey).isEqualTo("articles/1/3_uuid_thumb.jpg");
+    }
+
+    @DisplayName("받아 둔 파일이 주어지면, 해당 키로 S3 에 올린다.")
+    @Test
+    void givenSpooledFile_whenUploading_thenStoresObject() throws Exception {
+        // Given
+        Path file = Files.write(tempDir.resolve("upload.tmp"), "content".getBytes());
+
+        // When
+        sut.uploadFile("articles/1/1_uuid.jpg", file, "image/jpeg");
+
+        // Then
+        assertThat(amazonS3.getContent("test-bucket", "articles/1/1_uuid.jpg")).isEqualTo("content".getBytes());
+        assertThat(sut.downloadFile("articles/1/1_uuid.jpg")).hasContent("content");
+    }
+
+    @DisplayName("범위가 주어지면, 객체의 해당 구간만 받는다.")
+    @Test
+    void givenRange_whenDownloading_thenReturnsOnlyRequestedBytes() throws Exception {
+        // Given
+        Path file = Files.write(tempDir.resolve("upload.tmp"), "0123456789".getBytes());
+        sut.uploadFile("articles/1/1_uuid.jpg", file, "image/jpeg");
+
+        // When
+        InputStream inputStream = sut.downloadFile("articles/1/1_uuid.jpg", 2, 5);
+
+        // Then
+        assertThat(inputStream).hasContent("2345");
+    }
+
+    @DisplayName("S3 업로드가 실패하면, 예외를 던진다.")
+    @Test
+    void givenFailingS3_whenUploading_thenThrowsException() throws Exception {
+        // Given
+        Path file = Files.write(tempDir.resolve("upload.tmp"), "content".getBytes());
+        amazonS3.failNextPuts(1);
+
+        // When
+        Throwable t = catchThrowable(() -> sut.uploadFile("articles/1/1_uuid.jpg", file, "image/jpeg"));
+
+        // Then
+        assertThat(t).isInstanceOf(RuntimeException.class).hasMessage("파일 업로드에 실패했습니다.");
+        assertThat(amazonS3.doesObjectExist("test-bucket", "articles/1/1_uuid.jpg")).isFalse();
+    }
+
+    @DisplayName("S3 키가 주어지면, 객체를 지운다.")
+    @Test
+    void givenS3Key_whenDeleting_thenDeletesObject() throws Exception {
+        // Given
+        Path file = Files.write(tempDir.resolve("upload.tmp"), "content".getBytes());
+        sut.uploadFile("articles/1/1_uuid.jpg", file, "image/jpeg");
+
+        // When
+        sut.deleteFile("articles/1/1_uuid.jpg");
+
+        // Then
+        assertThat(amazonS3.doesObjectExist("test-bucket", "articles/1/1_uuid.jpg")).isFalse();
+    }
+}
@@ -0,0 +1,162 @@
+package com.springboard.projectboard.service;
+
+import com.springboard.projectboard.config.ThumbnailProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 썸네일 생성")
+class ThumbnailGeneratorTest {
+
+    private final ThumbnailGenerator sut = new ThumbnailGenerator(ThumbnailProperties.of(400, 300, 0.8f, 10_000_000L));
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("큰 이미지가 주어지면, 비율을 유지한 채 설정한 크기 안에 맞춘 JPEG 를 만든다")
+    @Test
+    void givenLargeImage_whenCreatingThumbnail_thenFitsWithinBounds() throws Exception {
+        // Given
+        Path source = writePng(1600, 800);
+
+        // When
+        Optional<Path> thumbnail = sut.createThumbnail(source);
+
+        // Then
+        assertThat(thumbnail).isPresent();
+        BufferedImage image = ImageIO.read(thumbnail.get().toFile());
+        assertThat(image.getWidth()).isEqualTo(400);
+        assertThat(image.getHeight()).isEqualTo(200);
+        assertThat(Files.readAllBytes(thumbnail.get())).startsWith((byte) 0xFF, (byte) 0xD8); // JPEG SOI 마커
+    }
+
+    @DisplayName("썸네일보다 몇 배 큰 이미지가 주어지면, 건너뛰며 읽어도 설정한 크기에 맞춘다")
+    @Test
+    void givenMuchLargerImage_whenCreatingThumbnail_thenSubsamplesAndFitsWithinBounds() throws Exception {
+        // Given
+        Path source = writePng(3200, 1600);
+
+        // When
+        Optional<Path> thumbnail = sut.createThumbnail(source);
+
+        // Then
+        assertThat(thumbnail).isPresent();
+        BufferedImage image = ImageIO.read(thumbnail.get().toFile());
+        assertThat(image.getWidth()).isEqualTo(400);
+        assertThat(image.getHeight()).isEqualTo(200);
+    }
+
+    @DisplayName("설정한 크기보다 작은 이미지가 주어지면, 키우지 않는다")
+    @Test
+    void givenSmallImage_whenCreatingThumbnail_thenKeepsSize() throws Exception {
+        // Given
+        Path source = writePng(120, 90);
+
+        // When
+        Optional<Path> thumbnail = sut.createThumbnail(source);
+
+        // Then
+        assertThat(thumbnail).isPresent();
+        BufferedImage image = ImageIO.read(thumbnail.get().toFile());
+        assertThat(image.getWidth()).isEqualTo(120);
+        assertThat(image.getHeight()).isEqualTo(90);
+    }
+
+    @DisplayName("EXIF Orientation 이 6(시계 방향 90도)인 사진이 주어지면, 돌린 뒤 설정한 크기에 맞춘다")
+    @Test
+    void givenRotatedJpeg_whenCreatingThumbnail_thenAppliesExifOrientation() throws Exception {
+        // Given - 저장된 픽셀은 왼쪽이 빨강, 오른쪽이 파랑인 가로 사진
+        Path source = writeJpegWithOrientation(800, 400, 6);
+
+        // When
+        Optional<Path> thumbnail = sut.createThumbnail(source);
+
+        // Then - 돌리면 세로 사진이 되고, 왼쪽(빨강)이 위로 간다
+        assertThat(thumbnail).isPresent();
+        BufferedImage image = ImageIO.read(thumbnail.get().toFile());
+        assertThat(image.getWidth()).isEqualTo(150);
+        assertThat(image.getHeight()).isEqualTo(300);
+        assertThat(new Color(image.getRGB(75, 50)).getRed()).isGreaterThan(200);
+        assertThat(new Color(image.getRGB(75, 250)).getBlue()).isGreaterThan(200);
+    }
+
+    @DisplayName("이미지가 아닌 파일이 주어지면, 썸네일을 만들지 않는다")
+    @Test
+    void givenNonImageFile_whenCreatingThumbnail_thenReturnsEmpty() throws Exception {
+        // Given
+        Path source = Files.write(tempDir.resolve("upload.tmp"), "content".getBytes());
+
+        // When
+        Optional<Path> thumbnail = sut.createThumbnail(source);
+
+        // Then
+        assertThat(thumbnail).isEmpty();
+    }
+
+    @DisplayName("가로x세로가 상한을 넘는 이미지가 주어지면, 디코딩하지 않고 썸네일을 만들지 않는다")
+    @Test
+    void givenTooLargeImage_whenCreatingThumbnail_thenReturnsEmpty() throws Exception {
+        // Given
+        Path source = writePng(4000, 3000);
+
+        // When
+        Optional<Path> thumbnail = sut.createThumbnail(source);
+
+        // Then
+        assertThat(thumbnail).isEmpty();
+    }
+
+    private Path writePng(int width, int height) throws Exception {
+        Path source = Files.createTempFile(tempDir, "upload-", ".tmp");
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", source.toFile());
+        return source;
+    }
+
+    /**
+     * JFIF(APP0) 바로 뒤에 Orientation 하나만 담은 EXIF(APP1) 세그먼트를 끼워 넣는다.
+     */
+    private Path writeJpegWithOrientation(int width, int height, int orientation) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(width / 2, 0, width - width / 2, height);
+        graphics.dispose();
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", jpeg);
+        byte[] bytes = jpeg.toByteArray();
+
+        byte[] exifHeader = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer exif = ByteBuffer.allocate(exifHeader.length + 26)
+                .put(exifHeader)
+                .put(new byte[]{'M', 'M'}).putShort((short) 42).putInt(8) // TIFF 헤더, IFD0 은 8 바이트 뒤
+                .putShort((short) 1) // 항목 수
+                .putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0)
+                .putInt(0); // 다음 IFD 없음
+        int app0End = 4 + (((bytes[4] & 0xFF) << 8) | (bytes[5] & 0xFF));
+        ByteArrayOutputStream withExif = new ByteArrayOutputStream();
+        withExif.write(bytes, 0, app0End);
+        withExif.write(0xFF);
+        withExif.write(0xE1);
+        withExif.write((exif.capacity() + 2) >> 8);
+        withExif.write((exif.capacity() + 2) & 0xFF);
+        withExif.write(exif.array());
+        withExif.write(bytes, app0End, bytes.length - app0End);
+
+        return Files.write(Files.createTempFile(tempDir, "upload-", ".tmp"), withExif.toByteArray());
+    }
+}
@@ -0,0 +1,68 @@
+package com.springboard.projectboard.service.search;
+
+import com.springboard.projectboard.service.search.ArticleSearchQuery.Term;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색 - 검색어 해석")
+class ArticleSearchQueryParserTest {
+
+    @DisplayName("공백으로 나눈 단어는 모두 포함해야 하는 조건이 된다.")
+    @Test
+    void givenWords_whenParsing_thenReturnsRequiredGroups() {
+        // Given
+        String keyword = "스프링  부트";
+
+        // When
+        ArticleSearchQuery query = ArticleSearchQueryParser.parse(keyword);
+
+        // Then
+        assertThat(query.requiredGroups()).containsExactly(List.of(Term.word("스프링")), List.of(Term.word("부트")));
+        assertThat(query.excludedTerms()).isEmpty();
+    }
+
+    @DisplayName("OR, 구문, 제외 문법을 함께 쓰면, 각각의 조건으로 해석한다.")
+    @Test
+    void givenOrPhraseAndExclusion_whenParsing_thenReturnsEachCondition() {
+        // Given
+        String keyword = "자바 OR 코틀린 | 스칼라 \"스프링 부트\" -광고 -\"구인 문의\"";
+
+        // When
+        ArticleSearchQuery query = ArticleSearchQueryParser.parse(keyword);
+
+        // Then
+        assertThat(query.requiredGroups()).containsExactly(
+                List.of(Term.word("자바"), Term.word("코틀린"), Term.word("스칼라")),
+                List.of(Term.phrase("스프링 부트"))
+        );
+        assertThat(query.excludedTerms()).containsExactly(Term.word("광고"), Term.phrase("구인 문의"));
+    }
+
+    @DisplayName("문법에 맞지 않는 검색어는, 오류 없이 일반 단어처럼 해석한다.")
+    @Test
+    void givenMalformedKeyword_whenParsing_thenParsesLeniently() {
+        // Given
+        String keyword = "OR \"닫히지 않은 구문  -  ｏｒ";
+
+        // When
+        ArticleSearchQuery query = ArticleSearchQueryParser.parse(keyword);
+
+        // Then
+        assertThat(query.requiredGroups()).containsExactly(List.of(Term.phrase("닫히지 않은 구문 - or")));
+        assertThat(query.excludedTerms()).isEmpty();
+    }
+
+    @DisplayName("빈 검색어를 해석하면, 빈 검색 조건을 반환한다.")
+    @Test
+    void givenBlankKeyword_whenParsing_thenReturnsEmptyQuery() {
+        // Given
+
+        // When & Then
+        assertThat(ArticleSearchQueryParser.parse(" ").isEmpty()).isTrue();
+        assertThat(ArticleSearchQueryParser.parse(null).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,72 @@
+package com.springboard.projectboard.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색 - 토크나이저")
+class ArticleSearchTokenizerTest {
+
+    @DisplayName("한글 어절은 음절 bigram 으로, 영문/숫자는 단어 단위 소문자로 자른다.")
+    @Test
+    void givenMixedText_whenTokenizing_thenReturnsHangulBigramsAndLatinWords() {
+        // Given
+        String text = "스프링부트 3.0 Release 질문!";
+
+        // When
+        List<String> tokens = ArticleSearchTokenizer.tokenize(text);
+
+        // Then
+        assertThat(tokens).containsExactly("스프", "프링", "링부", "부트", "3", "0", "release", "질문");
+    }
+
+    @DisplayName("전각 문자와 전각 공백은 반각으로, 한 글자 한글 단어는 그대로 둔다.")
+    @Test
+    void givenFullWidthText_whenTokenizing_thenNormalizesToHalfWidth() {
+        // Given
+        String text = "ＪＡＶＡ１７　및　책";
+
+        // When
+        List<String> tokens = ArticleSearchTokenizer.tokenize(text);
+
+        // Then
+        assertThat(tokens).containsExactly("java17", "및", "책");
+    }
+
+    @DisplayName("자모가 분리된 한글은 완성형으로 합친 뒤 자른다.")
+    @Test
+    void givenDecomposedHangul_whenTokenizing_thenComposesSyllables() {
+        // Given
+        String decomposed = Normalizer.normalize("게시판", Normalizer.Form.NFD);
+
+        // When
+        List<String> tokens = ArticleSearchTokenizer.tokenize(decomposed);
+
+        // Then
+        assertThat(tokens).containsExactly("게시", "시판");
+    }
+
+    @DisplayName("색인용으로 자르면, 한글 음절 하나하나를 bigram 과 같은 자리에 겹쳐 넣는다.")
+    @Test
+    void givenHangulText_whenTokenizingForIndex_thenStacksSyllableUnigramsOnBigrams() {
+        // Given
+        String text = "글쓰기 Tip";
+        List<String> tokens = new ArrayList<>();
+        List<Boolean> stacked = new ArrayList<>();
+
+        // When
+        ArticleSearchTokenizer.tokenizeForIndex(text, (token, isStacked) -> {
+            tokens.add(token);
+            stacked.add(isStacked);
+        });
+
+        // Then
+        assertThat(tokens).containsExactly("글쓰", "글", "쓰기", "쓰", "기", "tip");
+        assertThat(stacked).containsExactly(false, true, false, true, true, false);
+    }
+}
@@ -0,0 +1,115 @@
+package com.springboard.projectboard.service.search;
+
+import com.springboard.projectboard.domain.constant.SearchType;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색 엔진 - Lucene")
+class LuceneArticleSearchEngineTest {
+
+    private LuceneArticleSearchEngine sut;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sut = new LuceneArticleSearchEngine(new ByteBuffersDirectory());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        sut.close();
+    }
+
+    @DisplayName("한글 검색어로 본문을 검색하면, 어절 중간에 포함된 글도 관련도 순으로 찾는다.")
+    @Test
+    void givenKoreanKeyword_whenSearchingContent_thenReturnsArticleIdsByRelevance() {
+        // Given
+        sut.indexAll(List.of(
+                ArticleSearchDocument.of(1L, "첫 글", "스프링부트로 게시판을 만들었습니다."),
+                ArticleSearchDocument.of(2L, "둘째 글", "오늘 점심은 김치찌개"),
+                ArticleSearchDocument.of(3L, "셋째 글", "스프링 스프링 스프링부트 게시판 질문")
+        ));
+
+        // When
+        Page<Long> articleIds = sut.searchArticleIds(SearchType.CONTENT, "게시판 스프링", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(articleIds.getContent()).containsExactly(3L, 1L);
+        assertThat(articleIds.getTotalElements()).isEqualTo(2);
+    }
+
+    @DisplayName("한 글자 한글로 검색하면, 그 글자가 들어간 글을 어절 안에서도 찾는다.")
+    @Test
+    void givenSingleSyllableKeyword_whenSearchingContent_thenFindsArticlesContainingSyllable() {
+        // Given
+        sut.indexAll(List.of(
+                ArticleSearchDocument.of(1L, "첫 글", "글쓰기 연습"),
+                ArticleSearchDocument.of(2L, "둘째 글", "오늘 점심은 김치찌개"),
+                ArticleSearchDocument.of(3L, "셋째 글", "짧은 글")
+        ));
+
+        // When
+        Page<Long> articleIds = sut.searchArticleIds(SearchType.CONTENT, "글", PageRequest.of(0, 10));
+        Page<Long> phraseArticleIds = sut.searchArticleIds(SearchType.CONTENT, "\"글쓰기 연습\"", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(articleIds.getContent()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(phraseArticleIds.getContent()).containsExactly(1L);
+    }
+
+    @DisplayName("전각 영문으로 제목을 검색하면, 반각으로 정규화해서 찾는다.")
+    @Test
+    void givenFullWidthKeyword_whenSearchingTitle_thenNormalizesAndFinds() {
+        // Given
+        sut.index(ArticleSearchDocument.of(1L, "Spring Boot 질문", "content"));
+
+        // When
+        Page<Long> articleIds = sut.searchArticleIds(SearchType.TITLE, "ｓｐｒｉｎｇ", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(articleIds.getContent()).containsExactly(1L);
+    }
+
+    @DisplayName("검색 결과를 페이지로 나누면, 전체 건수와 함께 해당 페이지의 ID 만 반환한다.")
+    @Test
+    void givenManyMatches_whenSearchingSecondPage_thenReturnsPagedIdsWithTotal() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            sut.index(ArticleSearchDocument.of(id, "공지사항 " + id, "content"));
+        }
+
+        // When
+        Page<Long> articleIds = sut.searchArticleIds(SearchType.TITLE, "공지", PageRequest.of(1, 2));
+
+        // Then
+        assertThat(articleIds.getContent()).hasSize(2);
+        assertThat(articleIds.getTotalElements()).isEqualTo(5);
+    }
+
+    @DisplayName("색인을 갱신하거나 삭제하면, 검색 결과에 바로 반영된다.")
+    @Test
+    void givenIndexedArticle_whenUpdatingAndDeleting_thenSearchReflectsChanges() {
+        // Given
+        sut.index(ArticleSearchDocument.of(1L, "자바 질문", "content"));
+
+        // When
+        sut.index(ArticleSearchDocument.of(1L, "코틀린 질문", "content"));
+        List<Long> afterUpdate = sut.searchArticleIds(SearchType.TITLE, "자바", PageRequest.of(0, 10)).getContent();
+        sut.delete(1L);
+        List<Long> afterDelete = sut.searchArticleIds(SearchType.TITLE, "코틀린", PageRequest.of(0, 10)).getContent();
+
+        // Then
+        assertThat(afterUpdate).isEmpty();
+        assertThat(afterDelete).isEmpty();
+        assertThat(sut.indexedCount()).isZero();
+    }
+}
@@ -0,0 +1,121 @@
+package com.springboard.projectboard.util;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 메모리 S3. 업로드/다운로드/삭제에 쓰는 기능만 흉내 낸다.
+ * {@link #failNextPuts(int)} 로 다음 업로드 몇 번을 네트워크 오류처럼 실패시킬 수 있다.
+ */
+public class LocalAmazonS3 extends AbstractAmazonS3 {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final AtomicInteger putAttempts = new AtomicInteger();
+    private final AtomicInteger remainingPutFailures = new AtomicInteger();
+
+    public void failNextPuts(int count) {
+        remainingPutFailures.set(count);
+    }
+
+    public int putAttempts() {
+        return putAttempts.get();
+    }
+
+    public byte[] getContent(String bucketName, String key) {
+        return objects.get(objectKey(bucketName, key));
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        putAttempts.incrementAndGet();
+        if (remainingPutFailures.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+            throw new SdkClientException("Unable to execute HTTP request: Connection reset");
+        }
+
+        objects.put(objectKey(request.getBucketName(), request.getKey()), readContent(request));
+        return new PutObjectResult();
+    }
+
+    @Override
+    public S3Object getObject(String bucketName, String key) {
+        return getObject(new GetObjectRequest(bucketName, key));
+    }
+
+    @Override
+    public S3Object getObject(GetObjectRequest request) {
+        byte[] content = objects.get(objectKey(request.getBucketName(), request.getKey()));
+        if (content == null) {
+            throw new SdkClientException("The specified key does not exist: " + request.getKey());
+        }
+
+        long[] range = request.getRange();
+        if (range != null) {
+            int start = (int) range[0];
+            int end = (int) Math.min(range[1], content.length - 1);
+            content = Arrays.copyOfRange(content, start, end + 1);
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        S3Object s3Object = new S3Object();
+        s3Object.setBucketName(request.getBucketName());
+        s3Object.setKey(request.getKey());
+        s3Object.setObjectMetadata(metadata);
+        s3Object.setObjectContent(new S3ObjectInputStream(new ByteArrayInputStream(content), null));
+        return s3Object;
+    }
+
+    @Override
+    public boolean doesObjectExist(String bucketName, String objectName) {
+        return objects.containsKey(objectKey(bucketName, objectName));
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        objects.remove(objectKey(bucketName, key));
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL("https://" + bucketName + ".s3.local/" + key);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private byte[] readContent(PutObjectRequest request) {
+        try {
+            if (request.getFile() != null) {
+                return Files.readAllBytes(request.getFile().toPath());
+            }
+            try (InputStream inputStream = request.getInputStream()) {
+                return inputStream.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String objectKey(String bucketName, String key) {
+        return bucketName + "/" + key;
+    }
+}
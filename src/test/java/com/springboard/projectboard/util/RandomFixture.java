@@ -0,0 +1,51 @@
+package com.springboard.projectboard.util;
+
+import org.junit.jupiter.api.RepetitionInfo;
+
+import java.util.Random;
+
+/**
+ * 임의 입력으로 돌리는 테스트용 난수. 시드를 정해 두고 {@link #toString()} 으로 남기므로, 실패한 입력을 같은 시드로 다시 만들 수 있다.
+ * {@code @RepeatedTest} 에서는 {@link #forRepetition} 으로 반복마다 다른 (그러나 정해진) 시드를 쓴다.
+ */
+public class RandomFixture {
+
+    private final long seed;
+    private final Random random;
+
+    private RandomFixture(long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
+    }
+
+    public static RandomFixture forRepetition(long baseSeed, RepetitionInfo repetitionInfo) {
+        return new RandomFixture(baseSeed + repetitionInfo.getCurrentRepetition());
+    }
+
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * {@code alphabet} 의 글자를 골라 {@code minLength} ~ {@code maxLength} 글자 문자열을 만든다.
+     */
+    public String string(String alphabet, int minLength, int maxLength) {
+        return string(alphabet, minLength + random.nextInt(maxLength - minLength + 1));
+    }
+
+    /**
+     * {@code alphabet} 의 글자를 골라 {@code length} 글자 문자열을 만든다.
+     */
+    public String string(String alphabet, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "seed: " + seed;
+    }
+}